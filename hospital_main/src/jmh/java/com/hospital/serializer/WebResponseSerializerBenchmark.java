@@ -0,0 +1,233 @@
+package com.hospital.serializer;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.PharmacyWebResponse;
+import com.hospital.dto.UnifiedSearchResponse;
+import com.hospital.dto.WeeklySchedule;
+
+/**
+ * 목록 응답 직렬화 처리량 비교 (손으로 쓴 직렬화기 vs 이전 방식)
+ * - bean*: 클래스의 @JsonSerialize를 무시한 Jackson bean 직렬화
+ * - legacyUnified: 필드마다 writeObjectField를 호출하던 이전 UnifiedSearchResponseSerializer
+ *
+ * 실행: mvn -P benchmark test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WebResponseSerializerBenchmark {
+
+    // 한 페이지 크기
+    private static final int PAGE_SIZE = 100;
+
+    private List<HospitalWebResponse> hospitals;
+    private List<PharmacyWebResponse> pharmacies;
+    private List<UnifiedSearchResponse> unified;
+
+    private ObjectWriter customWriter;
+    private ObjectWriter beanWriter;
+    private ObjectWriter legacyUnifiedWriter;
+
+    @Setup
+    public void setUp() {
+        hospitals = new ArrayList<>(PAGE_SIZE);
+        pharmacies = new ArrayList<>(PAGE_SIZE);
+        unified = new ArrayList<>(PAGE_SIZE * 2);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            HospitalWebResponse hospital = hospital(i);
+            PharmacyWebResponse pharmacy = pharmacy(i);
+            hospitals.add(hospital);
+            pharmacies.add(pharmacy);
+            unified.add(UnifiedSearchResponse.fromHospital(hospital));
+            unified.add(UnifiedSearchResponse.fromPharmacy(pharmacy));
+        }
+
+        customWriter = new ObjectMapper().writer();
+
+        ObjectMapper beanMapper = new ObjectMapper();
+        beanMapper.setAnnotationIntrospector(new IgnoreDtoSerializers());
+        beanMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        beanWriter = beanMapper.writer();
+
+        ObjectMapper legacyMapper = new ObjectMapper();
+        legacyMapper.setAnnotationIntrospector(new IgnoreDtoSerializers());
+        legacyMapper.registerModule(new SimpleModule()
+                .addSerializer(UnifiedSearchResponse.class, new LegacyUnifiedSearchResponseSerializer()));
+        legacyUnifiedWriter = legacyMapper.writer();
+    }
+
+    @Benchmark
+    public byte[] customHospitals() throws IOException {
+        return customWriter.writeValueAsBytes(hospitals);
+    }
+
+    @Benchmark
+    public byte[] beanHospitals() throws IOException {
+        return beanWriter.writeValueAsBytes(hospitals);
+    }
+
+    @Benchmark
+    public byte[] customPharmacies() throws IOException {
+        return customWriter.writeValueAsBytes(pharmacies);
+    }
+
+    @Benchmark
+    public byte[] beanPharmacies() throws IOException {
+        return beanWriter.writeValueAsBytes(pharmacies);
+    }
+
+    @Benchmark
+    public byte[] customUnified() throws IOException {
+        return customWriter.writeValueAsBytes(unified);
+    }
+
+    @Benchmark
+    public byte[] legacyUnified() throws IOException {
+        return legacyUnifiedWriter.writeValueAsBytes(unified);
+    }
+
+    private static HospitalWebResponse hospital(int i) {
+        Map<String, Integer> doctors = new LinkedHashMap<>();
+        doctors.put("내과", 3 + i % 4);
+        doctors.put("소아청소년과", 1 + i % 2);
+        doctors.put("가정의학과", 1);
+        return HospitalWebResponse.builder()
+                .hospitalCode("A1100" + (10000 + i))
+                .hospitalName("서울중앙의원 " + i)
+                .hospitalAddress("서울특별시 중구 세종대로 " + i)
+                .hospitalTel("02-123-" + (1000 + i))
+                .totalDoctors(5 + i % 4)
+                .coordinateX(126.97 + i * 0.001)
+                .coordinateY(37.56 + i * 0.001)
+                .weekdayLunch("12:30~13:30")
+                .parkingCapacity(i % 3 == 0 ? null : 10 + i)
+                .parkingFee(i % 2 == 0)
+                .todayOpen("09:00")
+                .todayClose("18:00")
+                .noTrmtHoli("휴진")
+                .weeklySchedule(schedule())
+                .medicalSubjects(List.of("내과", "소아청소년과", "가정의학과", "영상의학과"))
+                .professionalDoctors(doctors)
+                .distance(i % 2 == 0 ? 0.35 + i * 0.01 : null)
+                .build();
+    }
+
+    private static PharmacyWebResponse pharmacy(int i) {
+        return PharmacyWebResponse.builder()
+                .pharmacyCode("C1100" + (10000 + i))
+                .pharmacyName("온누리약국 " + i)
+                .pharmacyAddress("서울특별시 종로구 종로 " + i)
+                .pharmacyTel("02-765-" + (1000 + i))
+                .pharmacyEtc(i % 3 == 0 ? "점심시간 13:00~14:00" : null)
+                .coordinateX(126.98 + i * 0.001)
+                .coordinateY(37.57 + i * 0.001)
+                .todayOpen("09:00")
+                .todayClose("21:00")
+                .weeklySchedule(schedule())
+                .distance(i % 2 == 0 ? 0.2 + i * 0.01 : null)
+                .build();
+    }
+
+    private static WeeklySchedule schedule() {
+        return WeeklySchedule.builder()
+                .day(DayOfWeek.MONDAY, "0900", "1800")
+                .day(DayOfWeek.TUESDAY, "0900", "1800")
+                .day(DayOfWeek.WEDNESDAY, "0900", "1800")
+                .day(DayOfWeek.THURSDAY, "0900", "1800")
+                .day(DayOfWeek.FRIDAY, "0900", "1900")
+                .day(DayOfWeek.SATURDAY, "0900", "1300")
+                .build();
+    }
+
+    // DTO 클래스에 붙은 @JsonSerialize만 무시 (WeeklySchedule 등은 그대로)
+    private static final class IgnoreDtoSerializers extends JacksonAnnotationIntrospector {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object findSerializer(Annotated a) {
+            Class<?> type = a.getRawType();
+            if (type == HospitalWebResponse.class || type == PharmacyWebResponse.class
+                    || type == UnifiedSearchResponse.class) {
+                return null;
+            }
+            return super.findSerializer(a);
+        }
+    }
+
+    // 이전 UnifiedSearchResponseSerializer (필드마다 writeObjectField로 직렬화기 조회)
+    private static final class LegacyUnifiedSearchResponseSerializer extends StdSerializer<UnifiedSearchResponse> {
+
+        private static final long serialVersionUID = 1L;
+
+        LegacyUnifiedSearchResponseSerializer() {
+            super(UnifiedSearchResponse.class);
+        }
+
+        @Override
+        public void serialize(UnifiedSearchResponse value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            if ("HOSPITAL".equals(value.getMedicalType())) {
+                gen.writeObjectField("medicalType", value.getMedicalType());
+                gen.writeObjectField("hospitalCode", value.getHospitalCode());
+                gen.writeObjectField("hospitalName", value.getName());
+                gen.writeObjectField("hospitalAddress", value.getAddress());
+                gen.writeObjectField("hospitalTel", value.getTel());
+                gen.writeObjectField("coordinateX", value.getCoordinateX());
+                gen.writeObjectField("coordinateY", value.getCoordinateY());
+                gen.writeObjectField("totalDoctors", value.getTotalDoctors());
+                gen.writeObjectField("weekdayLunch", value.getWeekdayLunch());
+                gen.writeObjectField("parkingCapacity", value.getParkingCapacity());
+                gen.writeObjectField("parkingFee", value.getParkingFee());
+                gen.writeObjectField("todayOpen", value.getTodayOpen());
+                gen.writeObjectField("todayClose", value.getTodayClose());
+                gen.writeObjectField("weeklySchedule", value.getWeeklySchedule());
+                gen.writeObjectField("noTrmtHoli", value.getNoTrmtHoli());
+                gen.writeObjectField("noTrmtSun", value.getNoTrmtSun());
+                gen.writeObjectField("medicalSubjects", value.getMedicalSubjects());
+                gen.writeObjectField("professionalDoctors", value.getProfessionalDoctors());
+            } else if ("PHARMACY".equals(value.getMedicalType())) {
+                gen.writeObjectField("medicalType", value.getMedicalType());
+                gen.writeObjectField("pharmacyCode", value.getPharmacyCode());
+                gen.writeObjectField("pharmacyName", value.getName());
+                gen.writeObjectField("pharmacyAddress", value.getAddress());
+                gen.writeObjectField("pharmacyTel", value.getTel());
+                gen.writeObjectField("pharmacyFax", value.getPharmacyFax());
+                gen.writeObjectField("pharmacyEtc", value.getPharmacyEtc());
+                gen.writeObjectField("pharmacyMapInfo", value.getPharmacyMapInfo());
+                gen.writeObjectField("coordinateX", value.getCoordinateX());
+                gen.writeObjectField("coordinateY", value.getCoordinateY());
+                gen.writeObjectField("todayOpen", value.getTodayOpen());
+                gen.writeObjectField("todayClose", value.getTodayClose());
+                gen.writeObjectField("weeklySchedule", value.getWeeklySchedule());
+            }
+            gen.writeEndObject();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.hospital.dto.EmergencyLocationApiResponse;
 import com.hospital.entity.EmergencyLocation;
 import com.hospital.parser.EmergencyLocationApiParser;
 import com.hospital.repository.EmergencyLocationRepository;
+import com.hospital.service.EmergencyCoordinateService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,15 +28,18 @@ public class EmergencyLocationAsyncRunner {
 	private final EmergencyLocationApiCaller apiCaller;
 	private final EmergencyLocationApiParser parser;
 	private final EmergencyLocationRepository emergencyLocationRepository;
+	private final EmergencyCoordinateService emergencyCoordinateService;
 
 	private static final int BATCH_SIZE = 100;
 
 	@Autowired
 	public EmergencyLocationAsyncRunner(EmergencyLocationApiCaller apiCaller, EmergencyLocationApiParser parser,
-			EmergencyLocationRepository emergencyLocationRepository) {
+			EmergencyLocationRepository emergencyLocationRepository,
+			EmergencyCoordinateService emergencyCoordinateService) {
 		this.apiCaller = apiCaller;
 		this.parser = parser;
 		this.emergencyLocationRepository = emergencyLocationRepository;
+		this.emergencyCoordinateService = emergencyCoordinateService;
 	}
 
 	@Async("apiExecutor")
@@ -81,6 +85,9 @@ public class EmergencyLocationAsyncRunner {
 
 			log.info("응급실 위치 수집 완료 , 총 {}건 저장",  insertedTotal);
 
+			// 새 위치 데이터로 좌표 조회표 교체 (수집 중에는 이전 조회표 계속 사용)
+			emergencyCoordinateService.reload();
+
 		} catch (Exception e) {
 			failedCount.incrementAndGet();
 			log.error("응급실 위치 수집 실패 , 오류: {}", e.getMessage(), e);
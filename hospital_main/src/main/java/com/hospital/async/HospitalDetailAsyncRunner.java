@@ -23,6 +23,7 @@ import com.hospital.dto.HospitalDetailApiResponse;
 import com.hospital.entity.HospitalDetail;
 import com.hospital.parser.HospitalDetailApiParser;
 import com.hospital.repository.HospitalDetailApiRepository;
+import com.hospital.service.HospitalSnapshotService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,6 +36,7 @@ public class HospitalDetailAsyncRunner {
 	private final HospitalDetailApiCaller apiCaller;
 	private final HospitalDetailApiParser parser;
 	private final HospitalDetailApiRepository hospitalDetailApiRepository;
+	private final HospitalSnapshotService hospitalSnapshotService;
 
 	private final AtomicInteger completedCount = new AtomicInteger(0);
 	private final AtomicInteger failedCount = new AtomicInteger(0);
@@ -47,11 +49,13 @@ public class HospitalDetailAsyncRunner {
 
 	@Autowired
 	public HospitalDetailAsyncRunner(HospitalDetailApiCaller apiCaller, HospitalDetailApiParser parser,
-			HospitalDetailApiRepository hospitalDetailApiRepository, @Qualifier("apiExecutor") Executor executor) {
+			HospitalDetailApiRepository hospitalDetailApiRepository, @Qualifier("apiExecutor") Executor executor,
+			HospitalSnapshotService hospitalSnapshotService) {
 		this.apiCaller = apiCaller;
 		this.parser = parser;
 		this.hospitalDetailApiRepository = hospitalDetailApiRepository;
 		this.executor = executor;
+		this.hospitalSnapshotService = hospitalSnapshotService;
 	}
 
 	@Async("apiExecutor")
@@ -78,6 +82,8 @@ public class HospitalDetailAsyncRunner {
 		} catch (Exception e) {
 			failedCount.addAndGet(hospitalCodes.size());
 			log.error("전체 배치 실패: {}", e.getMessage(), e);
+		} finally {
+			hospitalSnapshotService.ingestFinished(1);
 		}
 	}
 
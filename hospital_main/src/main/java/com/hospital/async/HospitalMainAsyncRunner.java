@@ -16,6 +16,7 @@ import com.hospital.dto.HospitalMainApiResponse;
 import com.hospital.entity.HospitalMain;
 import com.hospital.parser.HospitalMainApiParser;
 import com.hospital.repository.HospitalMainApiRepository;
+import com.hospital.service.HospitalSnapshotService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -33,6 +34,7 @@ public class HospitalMainAsyncRunner {
     private final HospitalMainApiParser parser;
     private final HospitalMainApiRepository hospitalMainApiRepository;
     private final RegionConfig regionConfig;
+    private final HospitalSnapshotService hospitalSnapshotService;
 
     private static final int BATCH_SIZE = 100;
 
@@ -40,11 +42,13 @@ public class HospitalMainAsyncRunner {
     public HospitalMainAsyncRunner(HospitalMainApiCaller apiCaller,
                                    HospitalMainApiParser parser,
                                    HospitalMainApiRepository hospitalMainApiRepository,
-                                   RegionConfig regionConfig) {
+                                   RegionConfig regionConfig,
+                                   HospitalSnapshotService hospitalSnapshotService) {
         this.apiCaller = apiCaller;
         this.parser = parser;
         this.hospitalMainApiRepository = hospitalMainApiRepository;
         this.regionConfig = regionConfig;
+        this.hospitalSnapshotService = hospitalSnapshotService;
     }
 
     @Async("apiExecutor")
@@ -96,6 +100,9 @@ public class HospitalMainAsyncRunner {
         } catch (Exception e) {
             failedCount.incrementAndGet();
             log.error("지역 코드 {} 처리 실패: {}", regionConfig.getSidoName(sidoCd), e.getMessage());
+        } finally {
+            // 마지막 지역까지 끝나면 스냅샷 재생성
+            hospitalSnapshotService.ingestFinished(1);
         }
     }
 
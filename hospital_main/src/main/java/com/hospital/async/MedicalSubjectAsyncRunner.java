@@ -21,6 +21,7 @@ import com.hospital.dto.MedicalSubjectApiResponse;
 
 import com.hospital.entity.MedicalSubject;
 import com.hospital.config.SubjectMappingConfig;
+import com.hospital.service.HospitalSnapshotService;
 
 @Service
 @Slf4j
@@ -36,6 +37,7 @@ public class MedicalSubjectAsyncRunner {
     private final MedicalSubjectApiParser parser;
     private final MedicalSubjectApiRepository medicalSubjectApiRepository;
     private final SubjectMappingConfig subjectMappingConfig;
+    private final HospitalSnapshotService hospitalSnapshotService;
 
     private static final int BATCH_SIZE = 100;
 
@@ -43,11 +45,13 @@ public class MedicalSubjectAsyncRunner {
     public MedicalSubjectAsyncRunner(MedicalSubjectApiCaller apiCaller,
     		MedicalSubjectApiParser parser,
     		MedicalSubjectApiRepository medicalSubjectApiRepository,
-                                   SubjectMappingConfig subjectMappingConfig) {
+                                   SubjectMappingConfig subjectMappingConfig,
+                                   HospitalSnapshotService hospitalSnapshotService) {
         this.apiCaller = apiCaller;
         this.parser = parser;
         this.medicalSubjectApiRepository = medicalSubjectApiRepository;
         this.subjectMappingConfig = subjectMappingConfig;
+        this.hospitalSnapshotService = hospitalSnapshotService;
     }
 
     @Async("apiExecutor")
@@ -114,6 +118,9 @@ public class MedicalSubjectAsyncRunner {
         } catch (Exception e) {
             failedCount.incrementAndGet();
             log.error("과목 코드 {} 처리 실패: {}", subjectMappingConfig.getDepartmentName(subjectCode), e.getMessage(), e);
+        } finally {
+            // 마지막 과목까지 끝나면 스냅샷 재생성
+            hospitalSnapshotService.ingestFinished(1);
         }
     }
 
@@ -14,6 +14,9 @@ import com.hospital.dto.PharmacyApiResponse;
 import com.hospital.entity.Pharmacy;
 import com.hospital.parser.PharmacyApiParser;
 import com.hospital.repository.PharmacyApiRepository;
+import com.hospital.service.NameSearchService;
+import com.hospital.service.PharmacyWebService;
+import com.hospital.service.UnifiedSearchService;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,16 +33,25 @@ public class PharmacyAsyncRunner {
     private final PharmacyApiCaller apiCaller;
     private final PharmacyApiParser parser;
     private final PharmacyApiRepository pharmacyApiRepository;
+    private final PharmacyWebService pharmacyWebService;
+    private final NameSearchService nameSearchService;
+    private final UnifiedSearchService unifiedSearchService;
 
     private static final int BATCH_SIZE = 100;
 
     @Autowired
     public PharmacyAsyncRunner(PharmacyApiCaller apiCaller,
                                PharmacyApiParser parser,
-                               PharmacyApiRepository pharmacyApiRepository) {
+                               PharmacyApiRepository pharmacyApiRepository,
+                               PharmacyWebService pharmacyWebService,
+                               NameSearchService nameSearchService,
+                               UnifiedSearchService unifiedSearchService) {
         this.apiCaller = apiCaller;
         this.parser = parser;
         this.pharmacyApiRepository = pharmacyApiRepository;
+        this.pharmacyWebService = pharmacyWebService;
+        this.nameSearchService = nameSearchService;
+        this.unifiedSearchService = unifiedSearchService;
     }
 
     @Async("apiExecutor")
@@ -88,6 +100,12 @@ public class PharmacyAsyncRunner {
             insertedCount.addAndGet(insertedTotal);
             completedCount.incrementAndGet();
 
+            // 새 데이터 기준으로 다시 적재되도록 타일 캐시 무효화
+            pharmacyWebService.evictTileCache();
+            nameSearchService.rebuildPharmacies();
+            // 새 색인으로 다시 검색되도록 통합 검색 캐시 무효화 (색인 재생성 이후)
+            unifiedSearchService.evictSearchCache();
+
             long duration = System.currentTimeMillis() - startTime;
             log.info("✅ 전국 약국 데이터 수집 완료: 총 {}건 저장 (소요시간: {}ms)", insertedTotal, duration);
 
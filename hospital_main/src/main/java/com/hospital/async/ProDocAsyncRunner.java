@@ -18,6 +18,7 @@ import com.hospital.entity.ProDoc;
 import com.hospital.parser.ProDocApiParser;
 import com.hospital.repository.CommonBatchRepository;
 import com.hospital.repository.ProDocApiRepository;
+import com.hospital.service.HospitalSnapshotService;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -34,15 +35,18 @@ public class ProDocAsyncRunner {
 	private static final int CHUNK_SIZE = 100;
 	private static final int BATCH_SIZE = 100;
 	private final CommonBatchRepository commonBatchRepository;
+	private final HospitalSnapshotService hospitalSnapshotService;
 
 	@Autowired
 	public ProDocAsyncRunner(ProDocApiCaller apiCaller, ProDocApiParser parser, ProDocApiRepository repository,
-			@Qualifier("apiExecutor") Executor executor, CommonBatchRepository commonBatchRepository) {
+			@Qualifier("apiExecutor") Executor executor, CommonBatchRepository commonBatchRepository,
+			HospitalSnapshotService hospitalSnapshotService) {
 		this.apiCaller = apiCaller;
 		this.parser = parser;
 		this.repository = repository;
 		this.executor = executor;
 		this.commonBatchRepository = commonBatchRepository;
+		this.hospitalSnapshotService = hospitalSnapshotService;
 	}
 
 	@Async("apiExecutor")
@@ -63,6 +67,8 @@ public class ProDocAsyncRunner {
 		} catch (Exception e) {
 			failedCount.addAndGet(hospitalCodes.size());
 			log.error("전체 배치 실패", e);
+		} finally {
+			hospitalSnapshotService.ingestFinished(1);
 		}
 	}
 
@@ -1,6 +1,8 @@
 package com.hospital.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.springframework.context.annotation.Bean;
@@ -66,6 +68,14 @@ public class AsyncConfig {
         return scheduler;
     }
     
+    /**
+     * 통합 검색 출처별 병렬 조회용 (가상 스레드, 요청마다 짧게 쓰고 끝나는 I/O 위주 작업)
+     */
+    @Bean(name = "searchExecutor", destroyMethod = "close")
+    public ExecutorService searchExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
     @Bean(name = "hospitalTaskExecutor")
     public Executor hospitalTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -1,6 +1,14 @@
 package com.hospital.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hospital.dto.UnifiedSearchPage;
+import com.hospital.service.PharmacyWebService;
+import com.hospital.service.UnifiedSearchService;
+
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
 
 import java.util.concurrent.TimeUnit;
 
@@ -15,8 +23,12 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching  // 캐싱 활성화
 public class CacheConfig {
 
+    // 통합 검색 결과 캐시: 결과가 있으면 30분, 빈 결과(없는 검색어)는 5분 보관
+    private static final long SEARCH_RESULT_TTL_NANOS = TimeUnit.MINUTES.toNanos(30);
+    private static final long SEARCH_EMPTY_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(PrometheusMeterRegistry prometheusMeterRegistry) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         
         // 캐시 설정: 최대 1000개 항목, 30분 후 만료
@@ -24,7 +36,46 @@ public class CacheConfig {
             .maximumSize(1000)
             .expireAfterWrite(30, TimeUnit.MINUTES)
             .recordStats());
-        
+
+        // 약국 타일 캐시: 타일(0.02도 격자)별 약국 목록, 약국 수집 완료 시 전체 무효화
+        cacheManager.registerCustomCache(PharmacyWebService.TILE_CACHE, Caffeine.newBuilder()
+            .maximumSize(20000)
+            .expireAfterWrite(24, TimeUnit.HOURS)
+            .recordStats()
+            .build());
+
+        // 통합 검색 캐시: (요일, 정규화 검색어, 페이지) -> 결과 페이지, 병원/약국 수집 완료 시 전체 무효화
+        // 빈 결과도 캐시해 없는 검색어가 반복돼도 DB를 다시 조회하지 않음 (W-TinyLFU라 인기 검색어는 밀려나지 않음)
+        Cache<Object, Object> searchCache = Caffeine.newBuilder()
+            .maximumSize(10000)
+            .expireAfter(new SearchResultExpiry())
+            .recordStats()
+            .build();
+        cacheManager.registerCustomCache(UnifiedSearchService.SEARCH_CACHE, searchCache);
+        CaffeineCacheMetrics.monitor(prometheusMeterRegistry, searchCache, UnifiedSearchService.SEARCH_CACHE);
+
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    // 빈 결과는 짧게, 결과가 있으면 길게 보관
+    private static class SearchResultExpiry implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            if (value instanceof UnifiedSearchPage page && page.getItems().isEmpty()) {
+                return SEARCH_EMPTY_TTL_NANOS;
+            }
+            return SEARCH_RESULT_TTL_NANOS;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -7,6 +7,8 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.hospital.dto.EmergencySnapshot;
 import com.hospital.dto.EmergencyWebResponse;
 import com.hospital.service.EmergencyLocationApiService;
 import com.hospital.service.EmergencyLiveService;
@@ -116,12 +119,16 @@ public class EmergencyApiController {
 	    response.put("connectedWebSocketSessions", connectedSessions);
 	    response.put("connectionStatus", emergencyApiWebSocketHandler.getConnectionStatus());
 	    response.put("collectionStats", stats);
-	    response.put("lastDataCount", emergencyLiveService.getEmergencyRoomData().size());
+	    EmergencySnapshot snapshot = emergencyLiveService.getLatestSnapshot();
+	    response.put("lastDataCount", snapshot == null ? 0 : snapshot.getCount());
 	    response.put("timestamp", LocalDateTime.now());
 
 	    if (schedulerRunning && connectedSessions > 0) {
 	        response.put("status", "ACTIVE");
 	        response.put("message", "정상 운영 중 - 실시간 데이터 수집 및 브로드캐스트");
+	    } else if (schedulerRunning) {
+	        response.put("status", "ACTIVE");
+	        response.put("message", "정상 운영 중 - HTTP 폴링용 실시간 데이터 수집");
 	    } else if (connectedSessions > 0) {
 	        response.put("status", "STARTING");
 	        response.put("message", "WebSocket 연결 있음 - 스케줄러 시작 중");
@@ -136,6 +143,81 @@ public class EmergencyApiController {
 	    return ResponseEntity.ok(response);
 	}
 
+	/**
+	 * 최신 응급실 목록 (WebSocket 대신 폴링하는 클라이언트용)
+	 * - 조회하면 수집이 시작되고, 조회가 이어지는 동안(WebSocket 연결이 없어도) 계속 수집
+	 * - 갱신 시 미리 만들어 둔 바이트를 그대로 응답 (gzip 지원 시 압축본, ETag도 압축본 전용)
+	 * - If-None-Match가 현재 ETag와 같으면 본문 없이 304
+	 * - 아직 수집된 데이터가 없으면 204 (첫 수집이 끝난 뒤 다시 조회)
+	 */
+	@GetMapping("/snapshot")
+	public ResponseEntity<byte[]> getSnapshot(
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		emergencyLiveService.onSnapshotPolled();
+		EmergencySnapshot snapshot = emergencyLiveService.getLatestSnapshot();
+		if (snapshot == null) {
+			return ResponseEntity.noContent().cacheControl(CacheControl.noCache()).build();
+		}
+
+		boolean gzip = acceptsGzip(acceptEncoding);
+		String etag = gzip ? snapshot.getGzipEtag() : snapshot.getEtag();
+
+		if (snapshot.matches(ifNoneMatch)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(etag)
+					.cacheControl(CacheControl.noCache())
+					.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+					.build();
+		}
+
+		byte[] body = gzip ? snapshot.getGzipBody() : snapshot.getBody();
+
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.contentLength(body.length)
+				.eTag(etag)
+				.cacheControl(CacheControl.noCache())
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+				.header("X-Emergency-Seq", String.valueOf(snapshot.getSeq()));
+		if (gzip) {
+			builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return builder.body(body);
+	}
+
+	/**
+	 * Accept-Encoding이 gzip을 허용하는지 (q=0이면 거부, gzip이 없으면 *의 q값을 따름)
+	 */
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null || acceptEncoding.isBlank()) {
+			return false;
+		}
+		double gzipQuality = -1;
+		double wildcardQuality = -1;
+		for (String part : acceptEncoding.split(",")) {
+			String[] params = part.split(";");
+			String coding = params[0].trim().toLowerCase();
+			double quality = 1;
+			for (int i = 1; i < params.length; i++) {
+				String param = params[i].trim();
+				if (param.length() > 2 && param.regionMatches(true, 0, "q=", 0, 2)) {
+					try {
+						quality = Double.parseDouble(param.substring(2).trim());
+					} catch (NumberFormatException e) {
+						quality = 0;
+					}
+				}
+			}
+			if (coding.equals("gzip") || coding.equals("x-gzip")) {
+				gzipQuality = Math.max(gzipQuality, quality);
+			} else if (coding.equals("*")) {
+				wildcardQuality = Math.max(wildcardQuality, quality);
+			}
+		}
+		return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+	}
+
 	@GetMapping("/manual-start")
 	public ResponseEntity<String> manualStart() {
 		emergencyLiveService.onWebSocketConnected();
@@ -1,20 +1,30 @@
 package com.hospital.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.HospitalSearchResult;
 import com.hospital.dto.PharmacyWebResponse;
+import com.hospital.serializer.HospitalJsonFragmentWriter;
 import com.hospital.service.HospitalWebService;
 import com.hospital.service.PharmacyWebService;
+import com.hospital.util.CurrentTimeUtils;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 //병원,약국 조회
 @RestController
@@ -23,63 +33,149 @@ public class HospitalWebController {
 
 	private static final Logger log = LoggerFactory.getLogger(HospitalWebController.class);
 
+	// 운영중 약국 검색 최대 결과 수
+	private static final int MAX_NEAREST_PHARMACIES = 50;
+
 	private final HospitalWebService hospitalService;
 	private final PharmacyWebService pharmacyService;
+	private final HospitalJsonFragmentWriter hospitalJsonFragmentWriter;
 
 	@Autowired
-	public HospitalWebController(HospitalWebService hospitalService, PharmacyWebService pharmacyService) {
+	public HospitalWebController(HospitalWebService hospitalService, PharmacyWebService pharmacyService,
+			HospitalJsonFragmentWriter hospitalJsonFragmentWriter) {
 		this.hospitalService = hospitalService;
 		this.pharmacyService = pharmacyService;
+		this.hospitalJsonFragmentWriter = hospitalJsonFragmentWriter;
 	}
 
 	// 병원 위치기반 데이터 (기본)
 	@GetMapping(value = "/hospitalsData", produces = MediaType.APPLICATION_JSON_VALUE)
-	public List<HospitalWebResponse> getHospitals(
+	public void getHospitals(
 			@RequestParam double userLat,         // 사용자 위도
 			@RequestParam double userLng,         // 사용자 경도
-			@RequestParam double radius          // 검색 반경 (km)
-	) {
+			@RequestParam double radius,          // 검색 반경 (km)
+			@RequestParam(required = false) Boolean openNow,  // 현재 운영 중인 곳만
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,  // 해당 시각에 운영 중인 곳만
+			HttpServletResponse response
+	) throws IOException {
 		long startTime = System.currentTimeMillis();
 		log.info("[기본] 병원 검색 API 호출 - 위도: {}, 경도: {}, 반경: {}km", userLat, userLng, radius);
 
-		List<HospitalWebResponse> result = hospitalService.getOptimizedHospitalsV2(userLat, userLng, radius);
+		HospitalSearchResult result = hospitalService.searchHospitals(
+			userLat, userLng, radius, null, null, resolveOpenAt(openNow, openAt)
+		);
+		writeHospitals(response, result);
 
 		long endTime = System.currentTimeMillis();
-		log.info("[기본] 병원 검색 완료 - 조회된 병원 수: {}개, 응답 시간: {}ms", result.size(), (endTime - startTime));
-
-		return result;
+		log.info("[기본] 병원 검색 완료 - 조회된 병원 수: {}개, 응답 시간: {}ms", result.getHospitals().size(), (endTime - startTime));
 	}
 
 	// 병원 위치기반 데이터 (진료과 필터링 + limit)
 	@GetMapping(value = "/hospitalsDataFiltered", produces = MediaType.APPLICATION_JSON_VALUE)
-	public List<HospitalWebResponse> getHospitalsFiltered(
+	public void getHospitalsFiltered(
 			@RequestParam double userLat,         // 사용자 위도
 			@RequestParam double userLng,         // 사용자 경도
 			@RequestParam double radius,          // 검색 반경 (km)
 			@RequestParam(required = false) List<String> departments,  // 진료과 목록
-			@RequestParam(required = false, defaultValue = "0") Integer limit  // 결과 개수 제한
-	) {
+			@RequestParam(required = false, defaultValue = "0") Integer limit,  // 결과 개수 제한
+			@RequestParam(required = false) Boolean openNow,  // 현재 운영 중인 곳만
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,  // 해당 시각에 운영 중인 곳만
+			HttpServletResponse response
+	) throws IOException {
 		long startTime = System.currentTimeMillis();
 		log.info("[필터링] 병원 검색 API 호출 - 위도: {}, 경도: {}, 반경: {}km, 진료과: {}, limit: {}",
 			userLat, userLng, radius, departments, limit);
 
-		List<HospitalWebResponse> result = hospitalService.getOptimizedHospitalsV2(
-			userLat, userLng, radius, departments, limit
+		HospitalSearchResult result = hospitalService.searchHospitals(
+			userLat, userLng, radius, departments, limit, resolveOpenAt(openNow, openAt)
 		);
+		writeHospitals(response, result);
 
 		long endTime = System.currentTimeMillis();
-		log.info("[필터링] 병원 검색 완료 - 조회된 병원 수: {}개, 응답 시간: {}ms", result.size(), (endTime - startTime));
+		log.info("[필터링] 병원 검색 완료 - 조회된 병원 수: {}개, 응답 시간: {}ms", result.getHospitals().size(), (endTime - startTime));
+	}
+
+	// 병원 위치기반 데이터 (스트리밍) - 넓은 반경 검색용, 결과를 모으지 않고 바로 출력 (거리순 정렬 없음)
+	@GetMapping(value = "/hospitalsDataStream", produces = MediaType.APPLICATION_JSON_VALUE)
+	public void streamHospitals(
+			@RequestParam double userLat,         // 사용자 위도
+			@RequestParam double userLng,         // 사용자 경도
+			@RequestParam double radius,          // 검색 반경 (km)
+			@RequestParam(required = false) List<String> departments,  // 진료과 목록
+			@RequestParam(required = false) Boolean openNow,  // 현재 운영 중인 곳만
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,  // 해당 시각에 운영 중인 곳만
+			HttpServletResponse response
+	) throws IOException {
+		long startTime = System.currentTimeMillis();
+		log.info("[스트리밍] 병원 검색 API 호출 - 위도: {}, 경도: {}, 반경: {}km, 진료과: {}",
+			userLat, userLng, radius, departments);
+
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
 
+		HospitalJsonFragmentWriter.ArrayWriter writer = hospitalJsonFragmentWriter.openArray(
+			response.getOutputStream(), Instant.now().toString()
+		);
+		hospitalService.streamHospitals(
+			userLat, userLng, radius, departments, resolveOpenAt(openNow, openAt), writer::write
+		);
+		writer.close();
+
+		long endTime = System.currentTimeMillis();
+		log.info("[스트리밍] 병원 검색 완료 - 조회된 병원 수: {}개, 응답 시간: {}ms", writer.getCount(), (endTime - startTime));
+	}
+
+	// 지금(또는 at 시각) 운영 중인 가장 가까운 약국 K개 (거리순)
+	@GetMapping(value = "/pharmacies/nearestOpen", produces = MediaType.APPLICATION_JSON_VALUE)
+	public List<PharmacyWebResponse> getNearestOpenPharmacies(
+			@RequestParam double lat,             // 사용자 위도
+			@RequestParam double lng,             // 사용자 경도
+			@RequestParam(required = false, defaultValue = "5") int k,  // 결과 개수
+			@RequestParam(required = false, defaultValue = "10") double radius,  // 최대 검색 반경 (km)
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,  // 기준 시각 (없으면 현재)
+			@RequestParam(required = false, defaultValue = "false") boolean holiday  // 공휴일 운영시간 기준 여부
+	) {
+		long startTime = System.currentTimeMillis();
+		int limit = Math.max(1, Math.min(k, MAX_NEAREST_PHARMACIES));
+		LocalDateTime time = at != null ? at : CurrentTimeUtils.getCurrentDateTime();
+		log.info("운영중 약국 검색 API 호출 - 위도: {}, 경도: {}, k: {}, 반경: {}km, 시각: {}, 공휴일: {}",
+				lat, lng, limit, radius, time, holiday);
+
+		List<PharmacyWebResponse> result = pharmacyService.findNearestOpen(lat, lng, limit, radius, time, holiday);
+
+		log.info("운영중 약국 검색 완료 - 조회된 약국 수: {}개, 응답 시간: {}ms",
+				result.size(), System.currentTimeMillis() - startTime);
 		return result;
 	}
 
+	// openAt이 있으면 그 시각, openNow=true면 현재 시각, 둘 다 없으면 운영시간 조건 없음(null)
+	private LocalDateTime resolveOpenAt(Boolean openNow, LocalDateTime openAt) {
+		if (openAt != null) {
+			return openAt;
+		}
+		return Boolean.TRUE.equals(openNow) ? CurrentTimeUtils.getCurrentDateTime() : null;
+	}
+
+	// 병원별 캐시된 JSON 조각을 응답 스트림에 바로 작성
+	private void writeHospitals(HttpServletResponse response, HospitalSearchResult result) throws IOException {
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		OutputStream out = response.getOutputStream();
+		hospitalJsonFragmentWriter.writeArray(out, result);
+		out.flush();
+	}
+
 	// 약국 검색 API
 	@GetMapping(value = "/pharmaciesData", produces = MediaType.APPLICATION_JSON_VALUE)
 	public List<PharmacyWebResponse> getNearbyPharmacies(@RequestParam("userLat") double userLat,
-			@RequestParam("userLng") double userLng, @RequestParam("radius") double radius) {
-		log.info("약국 검색 API 호출 - 위도: {}, 경도: {}, 반경: {}km", userLat, userLng, radius);
-
-		List<PharmacyWebResponse> result = pharmacyService.getPharmacies(userLat, userLng, radius);
+			@RequestParam("userLng") double userLng, @RequestParam("radius") double radius,
+			@RequestParam(required = false) Boolean openNow,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt) {
+		log.info("약국 검색 API 호출 - 위도: {}, 경도: {}, 반경: {}km, openNow: {}, openAt: {}",
+				userLat, userLng, radius, openNow, openAt);
+
+		List<PharmacyWebResponse> result = pharmacyService.getPharmacies(
+				userLat, userLng, radius, resolveOpenAt(openNow, openAt));
 
 		log.info("약국 검색 완료 - 조회된 약국 수: {}개", result.size());
 
@@ -9,9 +9,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.hospital.dto.AutocompleteSuggestion;
+import com.hospital.dto.UnifiedSearchPage;
 import com.hospital.dto.UnifiedSearchResponse;
 import com.hospital.service.UnifiedSearchService;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/search")
 public class UnifiedSearchController {
@@ -23,10 +27,28 @@ public class UnifiedSearchController {
 		this.unifiedSearchService = unifiedSearchService;
 	}
 
+	// 병원/약국 통합 검색 (page는 0부터, 다음 페이지 여부는 X-Has-Next, 부분 결과 여부는 X-Partial-Results 헤더)
 	@GetMapping(value = "/unifiedData", produces = MediaType.APPLICATION_JSON_VALUE)
-	public List<UnifiedSearchResponse> searchData(@RequestParam("searchName") String hospitalName) {
+	public List<UnifiedSearchResponse> searchData(@RequestParam("searchName") String hospitalName,
+			@RequestParam(value = "page", required = false, defaultValue = "0") int page,
+			@RequestParam(value = "size", required = false, defaultValue = "" + UnifiedSearchService.DEFAULT_PAGE_SIZE) int size,
+			@RequestParam(value = "userLat", required = false) Double userLat,  // 사용자 위도 (있으면 거리순 반영)
+			@RequestParam(value = "userLng", required = false) Double userLng,  // 사용자 경도
+			HttpServletResponse response) {
+
+		UnifiedSearchPage result = unifiedSearchService.search(hospitalName, page, size, userLat, userLng);
+		response.setHeader("X-Has-Next", String.valueOf(result.isHasNext()));
+		response.setHeader("X-Partial-Results", String.valueOf(result.isPartial()));
+		return result.getItems();
+
+	}
+
+	// 이름 앞부분 / 초성 자동완성 (키 입력마다 호출)
+	@GetMapping(value = "/autocomplete", produces = MediaType.APPLICATION_JSON_VALUE)
+	public List<AutocompleteSuggestion> autocomplete(@RequestParam("q") String prefix,
+			@RequestParam(value = "limit", required = false, defaultValue = "10") int limit) {
 
-		return unifiedSearchService.search(hospitalName);
+		return unifiedSearchService.autocomplete(prefix, limit);
 
 	}
 
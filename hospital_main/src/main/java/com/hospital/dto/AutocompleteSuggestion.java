@@ -0,0 +1,20 @@
+package com.hospital.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 자동완성 후보 (색인 생성 시 한 번 만들어 공유하므로 불변)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class AutocompleteSuggestion {
+
+	private final String medicalType; // "HOSPITAL", "PHARMACY"
+	private final String code; // 병원코드 또는 약국코드 (hpid)
+	private final String name;
+	private final String address;
+	private final int score; // 정렬 점수 (병원: 의사 수)
+}
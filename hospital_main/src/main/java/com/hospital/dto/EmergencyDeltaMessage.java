@@ -0,0 +1,22 @@
+package com.hospital.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 응급실 WebSocket 변경분 메시지 (protocol=delta 클라이언트용)
+ * - baseSeq가 클라이언트가 가진 seq와 같을 때만 적용, seq가 가진 값 이하면 무시, 그 외에는 resync 요청
+ * - upserts: 새로 생기거나 바뀐 응급실 전체 정보, removed: 목록에서 빠진 hpid
+ */
+@Getter
+@AllArgsConstructor
+public class EmergencyDeltaMessage {
+
+	private final String type = "delta";
+	private final long seq;
+	private final long baseSeq;
+	private final List<EmergencyWebResponse> upserts;
+	private final List<String> removed;
+}
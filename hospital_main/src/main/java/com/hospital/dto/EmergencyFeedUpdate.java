@@ -0,0 +1,25 @@
+package com.hospital.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 응급실 데이터 한 번의 갱신 결과 (seq 단위, 생성 후 변경하지 않음)
+ * - data: 전체 목록, changed: 새로 생기거나 바뀐 병원, removed: 목록에서 빠진 병원의 이전 데이터
+ * - 전체 구독 클라이언트용 메시지는 미리 작성해 모든 세션이 공유
+ */
+@Getter
+@AllArgsConstructor
+public class EmergencyFeedUpdate {
+
+	private final long seq;
+	private final List<EmergencyWebResponse> data;
+	private final List<EmergencyWebResponse> changed;
+	private final List<EmergencyWebResponse> removed;
+
+	private final String dataJson;
+	private final String snapshotMessage;
+	private final String deltaMessage;
+}
@@ -0,0 +1,92 @@
+package com.hospital.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.Getter;
+
+/**
+ * 최신 응급실 목록 JSON을 미리 인코딩해 둔 불변 스냅샷
+ * - 갱신 시 한 번만 UTF-8 바이트, gzip 바이트, ETag(내용 해시, gzip 본문은 "-gzip"을 붙인 별도 태그)를 만들고
+ *   HTTP 조회와 WebSocket 초기 전송은 만들어 둔 값을 그대로 사용 (JSON 재파싱/재직렬화 없음)
+ * - 바이트 배열은 외부에 그대로 노출하므로 받은 쪽에서 수정하지 않아야 함
+ */
+@Getter
+public final class EmergencySnapshot {
+
+	private final long seq;
+	private final int count;
+	private final String json;
+	private final byte[] body;
+	private final byte[] gzipBody;
+	private final String etag;
+	private final String gzipEtag;
+
+	private EmergencySnapshot(long seq, int count, String json, byte[] body, byte[] gzipBody, String hash) {
+		this.seq = seq;
+		this.count = count;
+		this.json = json;
+		this.body = body;
+		this.gzipBody = gzipBody;
+		this.etag = "\"" + hash + "\"";
+		this.gzipEtag = "\"" + hash + "-gzip\"";
+	}
+
+	/**
+	 * @param json  응급실 목록 JSON 배열
+	 * @param count 목록 건수
+	 */
+	public static EmergencySnapshot of(long seq, int count, String json) {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		return new EmergencySnapshot(seq, count, json, body, gzip(body), hashOf(body));
+	}
+
+	/**
+	 * If-None-Match 헤더 값과 일치 여부 (여러 값, *, 약한 비교(W/) 허용)
+	 * - 원본/gzip 어느 쪽 ETag든 같은 내용이므로 일치로 봄
+	 */
+	public boolean matches(String ifNoneMatch) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.equals("*")) {
+				return true;
+			}
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.equals(etag) || tag.equals(gzipEtag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 내용이 같으면 seq와 관계없이 같은 ETag (SHA-256 앞 16바이트)
+	private static String hashOf(byte[] body) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+			return HexFormat.of().formatHex(hash, 0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 사용 불가", e);
+		}
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+}
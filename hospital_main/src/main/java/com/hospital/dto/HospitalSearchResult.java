@@ -0,0 +1,18 @@
+package com.hospital.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 병원 검색 결과 + 조회에 사용한 스냅샷 버전
+ * - snapshotVersion이 0이면 DB에서 직접 조회한 결과 (JSON 조각 캐시 미사용)
+ */
+@Getter
+@AllArgsConstructor
+public class HospitalSearchResult {
+
+	private final List<HospitalWebResponse> hospitals;
+	private final long snapshotVersion;
+}
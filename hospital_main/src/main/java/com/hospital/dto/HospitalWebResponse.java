@@ -6,6 +6,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hospital.serializer.HospitalWebResponseSerializer;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +19,8 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@JsonSerialize(using = HospitalWebResponseSerializer.class)
 public class HospitalWebResponse {
     // 기본 정보
     
@@ -43,13 +47,16 @@ public class HospitalWebResponse {
     private String noTrmtHoli;
     private String noTrmtSun;
     
-    private Map<String, Map<String, String>> weeklySchedule;
+    private WeeklySchedule weeklySchedule;
     
     private List<String> medicalSubjects;
     
   
     private Map<String, Integer> professionalDoctors;
 
+    // 사용자 위치로부터 거리 (km, 거리순 검색일 때만 포함)
+    private Double distance;
+
     // 타임스탬프
     private String timestamp;
 
@@ -0,0 +1,8 @@
+package com.hospital.dto;
+
+/**
+ * 이름 검색 1단계 결과 (코드 + 이름, 순위 계산용)
+ * - distanceKm은 위치 기준 검색일 때만 값이 있음
+ */
+public record NameMatch(String code, String name, Double distanceKm) {
+}
@@ -1,5 +1,8 @@
 package com.hospital.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hospital.serializer.PharmacyWebResponseSerializer;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +15,8 @@ import java.util.Map;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@JsonSerialize(using = PharmacyWebResponseSerializer.class)
 public class PharmacyWebResponse {
 
 	// 기본 정보
@@ -33,5 +37,8 @@ public class PharmacyWebResponse {
 	private String todayClose; // 오늘 마감 시간
 
 	// 주간 운영 시간
-	private Map<String, Map<String, String>> weeklySchedule; // 요일별 운영 시간
+	private WeeklySchedule weeklySchedule; // 요일별 운영 시간
+
+	// 사용자 위치로부터 거리 (km, 거리순 검색일 때만 포함)
+	private Double distance;
 }
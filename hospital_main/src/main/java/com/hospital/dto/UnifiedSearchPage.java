@@ -0,0 +1,19 @@
+package com.hospital.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 통합 검색 한 페이지 (병원/약국을 일치 점수순으로 합친 목록 기준)
+ * - partial이 true면 응답 기한을 넘긴 출처가 있어 일부 결과만 포함
+ */
+@Getter
+@AllArgsConstructor
+public class UnifiedSearchPage {
+
+	private final List<UnifiedSearchResponse> items;
+	private final boolean hasNext;
+	private final boolean partial;
+}
@@ -28,7 +28,7 @@ public class UnifiedSearchResponse {
 	private Double coordinateY;
 	private String todayOpen;
 	private String todayClose;
-	private Map<String, Map<String, String>> weeklySchedule;
+	private WeeklySchedule weeklySchedule;
 
 	// 병원 전용 필드
 	private String hospitalCode;
@@ -0,0 +1,220 @@
+package com.hospital.dto;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hospital.serializer.WeeklyScheduleSerializer;
+
+/**
+ * 요일별 운영시간 (자정 기준 분 단위로 압축 저장)
+ * - HHmm 문자열은 생성 시 한 번만 파싱하고 이후에는 정수 비교만 수행
+ * - 배열 순서: 월~일, 공휴일 각각 [open, close], 값이 없으면 NONE
+ * - JSON은 기존과 같은 {"월요일": {"open": "09:00", "close": "18:00"}, ...} 형태로 출력
+ */
+@JsonSerialize(using = WeeklyScheduleSerializer.class)
+public final class WeeklySchedule {
+
+	public static final short NONE = -1;
+
+	private static final int HOLIDAY = 7;
+	private static final int MINUTES_PER_DAY = 24 * 60;
+
+	// 요일 인덱스(월=0)별 한글 이름 (7 = 공휴일)
+	private static final String[] DAY_NAMES = { "월요일", "화요일", "수요일", "목요일", "금요일", "토요일", "일요일", "공휴일" };
+
+	// 0 ~ 24:00 분 -> "HH:mm" (직렬화 시 문자열 생성 없이 재사용)
+	private static final String[] FORMATTED = new String[MINUTES_PER_DAY + 1];
+
+	static {
+		for (int minutes = 0; minutes <= MINUTES_PER_DAY; minutes++) {
+			FORMATTED[minutes] = String.format("%02d:%02d", minutes / 60, minutes % 60);
+		}
+	}
+
+	private final short[] minutes;
+	private final boolean hasHoliday;
+
+	private WeeklySchedule(short[] minutes, boolean hasHoliday) {
+		this.minutes = minutes;
+		this.hasHoliday = hasHoliday;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * "HHmm" 문자열을 자정 기준 분으로 변환 (형식이 다르면 NONE)
+	 */
+	public static short parseMinutes(String hhmm) {
+		if (hhmm == null || hhmm.length() != 4) {
+			return NONE;
+		}
+		for (int i = 0; i < 4; i++) {
+			char c = hhmm.charAt(i);
+			if (c < '0' || c > '9') {
+				return NONE;
+			}
+		}
+		int hour = (hhmm.charAt(0) - '0') * 10 + (hhmm.charAt(1) - '0');
+		int minute = (hhmm.charAt(2) - '0') * 10 + (hhmm.charAt(3) - '0');
+		if (minute > 59 || hour > 24 || (hour == 24 && minute > 0)) {
+			return NONE;
+		}
+		return (short) (hour * 60 + minute);
+	}
+
+	/**
+	 * 분 -> "HH:mm" (NONE이면 빈 문자열)
+	 */
+	public static String format(short minutes) {
+		return minutes == NONE ? "" : FORMATTED[minutes];
+	}
+
+	public short open(DayOfWeek day) {
+		return minutes[index(day) * 2];
+	}
+
+	public short close(DayOfWeek day) {
+		return minutes[index(day) * 2 + 1];
+	}
+
+	public String formattedOpen(DayOfWeek day) {
+		return format(open(day));
+	}
+
+	public String formattedClose(DayOfWeek day) {
+		return format(close(day));
+	}
+
+	public boolean hasHoliday() {
+		return hasHoliday;
+	}
+
+	public short holidayOpen() {
+		return minutes[HOLIDAY * 2];
+	}
+
+	public short holidayClose() {
+		return minutes[HOLIDAY * 2 + 1];
+	}
+
+	/**
+	 * 해당 요일/시각에 운영 중인지 여부
+	 * - 마감이 오픈보다 이르면 자정을 넘겨 운영하는 것으로 보고 전날 운영시간도 확인
+	 */
+	public boolean isOpenAt(DayOfWeek day, int minuteOfDay) {
+		return isOpenWithin(index(day) * 2, minuteOfDay) || isOpenFromPreviousDay(day, minuteOfDay);
+	}
+
+	/**
+	 * 공휴일인 해당 요일/시각에 운영 중인지 여부 (요일 운영시간 대신 공휴일 운영시간 적용)
+	 * - 공휴일 운영시간이 없으면 전날 밤부터 이어지는 운영만 인정
+	 */
+	public boolean isOpenOnHolidayAt(DayOfWeek day, int minuteOfDay) {
+		return (hasHoliday && isOpenWithin(HOLIDAY * 2, minuteOfDay)) || isOpenFromPreviousDay(day, minuteOfDay);
+	}
+
+	// 전날 밤부터 이어지는 운영 (예: 22:00 ~ 02:00)
+	private boolean isOpenFromPreviousDay(DayOfWeek day, int minuteOfDay) {
+		int previous = index(day.minus(1)) * 2;
+		short open = minutes[previous];
+		short close = minutes[previous + 1];
+		return open != NONE && close != NONE && close < open && minuteOfDay < close;
+	}
+
+	private boolean isOpenWithin(int offset, int minuteOfDay) {
+		short open = minutes[offset];
+		short close = minutes[offset + 1];
+		if (open == NONE || close == NONE || open == close) {
+			return false;
+		}
+		if (close < open) {
+			// 자정을 넘기는 경우 당일 분량은 오픈 이후 전부
+			return minuteOfDay >= open;
+		}
+		return minuteOfDay >= open && minuteOfDay < close;
+	}
+
+	/**
+	 * 직렬화용 요일 수 (공휴일 포함 여부에 따라 7 또는 8)
+	 */
+	public int dayCount() {
+		return hasHoliday ? 8 : 7;
+	}
+
+	public static String dayName(int dayIndex) {
+		return DAY_NAMES[dayIndex];
+	}
+
+	public short openAt(int dayIndex) {
+		return minutes[dayIndex * 2];
+	}
+
+	public short closeAt(int dayIndex) {
+		return minutes[dayIndex * 2 + 1];
+	}
+
+	private static int index(DayOfWeek day) {
+		return day.getValue() - 1;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof WeeklySchedule other)) {
+			return false;
+		}
+		return hasHoliday == other.hasHoliday && Arrays.equals(minutes, other.minutes);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(minutes) + (hasHoliday ? 1 : 0);
+	}
+
+	public static final class Builder {
+
+		private final short[] minutes = new short[16];
+		private boolean hasHoliday;
+		private boolean zeroAsClosed;
+
+		private Builder() {
+			Arrays.fill(minutes, NONE);
+		}
+
+		/**
+		 * "0000"을 운영하지 않는 시간으로 처리 (병원 데이터 규칙, HospitalDetail.isValidTime 참고)
+		 */
+		public Builder zeroAsClosed() {
+			this.zeroAsClosed = true;
+			return this;
+		}
+
+		public Builder day(DayOfWeek day, String open, String close) {
+			int offset = index(day) * 2;
+			minutes[offset] = parse(open);
+			minutes[offset + 1] = parse(close);
+			return this;
+		}
+
+		public Builder holiday(String open, String close) {
+			minutes[HOLIDAY * 2] = parse(open);
+			minutes[HOLIDAY * 2 + 1] = parse(close);
+			hasHoliday = true;
+			return this;
+		}
+
+		public WeeklySchedule build() {
+			return new WeeklySchedule(minutes.clone(), hasHoliday);
+		}
+
+		private short parse(String hhmm) {
+			short value = parseMinutes(hhmm);
+			return zeroAsClosed && value == 0 ? NONE : value;
+		}
+	}
+}
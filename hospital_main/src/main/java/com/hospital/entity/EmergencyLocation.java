@@ -28,11 +28,13 @@ public class EmergencyLocation {
 	@Column(name = "emergency_code", length = 50)
 	private String emergencyCode;
 	
+	// 위도 (수집 시 숫자로 변환해 저장)
 	@Column(name = "coordinate_Y")
-	private String coordinateY;
+	private Double coordinateY;
 	
+	// 경도
 	@Column(name = "coordinate_X")
-	private String coordinateX;
+	private Double coordinateX;
 	
 	@Column(name = "emergency_address")
 	private String emergencyAddress;
@@ -1,8 +1,13 @@
 package com.hospital.entity;
 
+import java.time.DayOfWeek;
+
 import org.hibernate.annotations.DynamicUpdate;
 
+import com.hospital.dto.WeeklySchedule;
+
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,7 +23,7 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 @DynamicUpdate
-@ToString(exclude = "hospital")
+@ToString(exclude = {"hospital", "weeklySchedule"})
 public class HospitalDetail {
 
     @Id
@@ -83,6 +88,11 @@ public class HospitalDetail {
     @JoinColumn(name = "hospital_code", insertable = false, updatable = false)
     private HospitalMain hospital;
 
+    // 파싱된 운영시간 캐시 (DB 컬럼 아님)
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private transient WeeklySchedule weeklySchedule;
+
     //주차 가능 여부 체크
     public boolean hasParkingSpace() {
         return this.parkQty != null && this.parkQty > 0;
@@ -104,6 +114,29 @@ public class HospitalDetail {
         return isValidTime(this.trmtSunStart) && isValidTime(this.trmtSunEnd);
     }
 
+    //요일별 운영시간 압축본 (처음 조회할 때 한 번만 파싱해 재사용, 운영시간 필드 변경 후에는 새로 조회한 엔티티 사용)
+    public WeeklySchedule getWeeklySchedule() {
+        WeeklySchedule schedule = weeklySchedule;
+        if (schedule == null) {
+            schedule = toWeeklySchedule();
+            weeklySchedule = schedule;
+        }
+        return schedule;
+    }
+
+    //요일별 운영시간을 압축 형태로 변환 ("0000"은 운영하지 않는 시간)
+    private WeeklySchedule toWeeklySchedule() {
+        return WeeklySchedule.builder().zeroAsClosed()
+                .day(DayOfWeek.MONDAY, trmtMonStart, trmtMonEnd)
+                .day(DayOfWeek.TUESDAY, trmtTueStart, trmtTueEnd)
+                .day(DayOfWeek.WEDNESDAY, trmtWedStart, trmtWedEnd)
+                .day(DayOfWeek.THURSDAY, trmtThurStart, trmtThurEnd)
+                .day(DayOfWeek.FRIDAY, trmtFriStart, trmtFriEnd)
+                .day(DayOfWeek.SATURDAY, trmtSatStart, trmtSatEnd)
+                .day(DayOfWeek.SUNDAY, trmtSunStart, trmtSunEnd)
+                .build();
+    }
+
     
     //유효한 시간 값인지 체크
     public static boolean isValidTime(String timeStr) {
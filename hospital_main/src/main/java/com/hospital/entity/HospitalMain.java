@@ -68,6 +68,10 @@ public class HospitalMain {
 	@Column(name = "location", columnDefinition = "POINT")
 	private Point location;
 
+	// 진료과 비트마스크 (SubjectCodeWrapper 기준, 스냅샷 재생성 시 DB에서 계산, 수집 직후에는 NULL)
+	@Column(name = "department_mask")
+	private Long departmentMask;
+
 	@OneToOne(mappedBy = "hospital",
 
 			fetch = FetchType.LAZY)
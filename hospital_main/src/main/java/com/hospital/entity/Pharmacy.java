@@ -1,6 +1,8 @@
 package com.hospital.entity;
 
 
+import org.locationtech.jts.geom.Point;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -58,6 +60,10 @@ public class Pharmacy {
 	@Column(name = "longitude")
 	private Double longitude; // 경도
 
+	// 위치 (경도, 위도 순 POINT, SRID 4326) - SPATIAL 인덱스 대상이라 NOT NULL (PharmacyLocationInitializer 참고)
+	@Column(name = "location", columnDefinition = "POINT")
+	private Point location;
+
 	@Column(name = "ykiho", unique = true)
 	private String ykiho; // 병원/약국 고유 식별자 (hpid)
 
@@ -108,7 +108,8 @@ public class GzipResponseFilter implements Filter {
         private final GZIPOutputStream gzipOutputStream;
 
         public GzipServletOutputStream(ServletOutputStream outputStream) throws IOException {
-            this.gzipOutputStream = new GZIPOutputStream(outputStream);
+            // syncFlush: flush() 시 압축 버퍼를 비워 스트리밍 응답이 조각 단위로 전송되도록 함
+            this.gzipOutputStream = new GZIPOutputStream(outputStream, true);
         }
 
         @Override
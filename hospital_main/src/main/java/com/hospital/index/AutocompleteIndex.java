@@ -0,0 +1,175 @@
+package com.hospital.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hospital.dto.AutocompleteSuggestion;
+import com.hospital.util.HangulUtils;
+import com.hospital.util.TopKSelector;
+
+/**
+ * 이름 앞부분 자동완성 색인 (불변)
+ * - 정규화한 이름과 그 초성 변환을 하나의 정렬 배열에 저장하고 이진 탐색으로 접두어 범위를 찾음
+ * - 1~2글자 접두어는 범위가 넓으므로 상위 후보를 생성 시 미리 계산 (키 입력마다 호출되는 경로)
+ * - 정렬: 점수 내림차순 > 짧은 이름 > 이름순
+ */
+public final class AutocompleteIndex {
+
+	public static final int MAX_SUGGESTIONS = 10;
+
+	// 이 길이 이하 접두어는 상위 후보를 미리 계산
+	private static final int CACHED_PREFIX_LENGTH = 2;
+
+	public static final Comparator<AutocompleteSuggestion> ORDER = Comparator
+			.comparingInt(AutocompleteSuggestion::getScore).reversed()
+			.thenComparingInt((AutocompleteSuggestion s) -> s.getName().length())
+			.thenComparing(AutocompleteSuggestion::getName);
+
+	private final AutocompleteSuggestion[] suggestions;
+	private final String[] names;       // 후보별 정규화 이름
+	private final String[] keys;        // 정렬된 검색 키 (이름 또는 초성)
+	private final int[] owners;         // 키별 후보 번호
+	private final boolean[] chosungKey; // 초성 키 여부
+	private final Map<String, List<AutocompleteSuggestion>> topByShortPrefix;
+
+	private AutocompleteIndex(AutocompleteSuggestion[] suggestions, String[] names, String[] keys, int[] owners,
+			boolean[] chosungKey) {
+		this.suggestions = suggestions;
+		this.names = names;
+		this.keys = keys;
+		this.owners = owners;
+		this.chosungKey = chosungKey;
+		this.topByShortPrefix = precomputeShortPrefixes();
+	}
+
+	public static AutocompleteIndex build(List<AutocompleteSuggestion> items) {
+		AutocompleteSuggestion[] suggestions = items.stream()
+				.filter(item -> item.getName() != null && !item.getName().isBlank())
+				.toArray(AutocompleteSuggestion[]::new);
+		String[] names = new String[suggestions.length];
+
+		List<String> keyList = new ArrayList<>(suggestions.length * 2);
+		List<Integer> ownerList = new ArrayList<>(suggestions.length * 2);
+		List<Boolean> chosungList = new ArrayList<>(suggestions.length * 2);
+		for (int i = 0; i < suggestions.length; i++) {
+			names[i] = NameSearchIndex.normalize(suggestions[i].getName());
+			keyList.add(names[i]);
+			ownerList.add(i);
+			chosungList.add(false);
+
+			String chosung = HangulUtils.chosung(names[i]);
+			if (!chosung.equals(names[i])) {
+				keyList.add(chosung);
+				ownerList.add(i);
+				chosungList.add(true);
+			}
+		}
+
+		Integer[] order = new Integer[keyList.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing(keyList::get));
+
+		String[] keys = new String[order.length];
+		int[] owners = new int[order.length];
+		boolean[] chosungKey = new boolean[order.length];
+		for (int i = 0; i < order.length; i++) {
+			keys[i] = keyList.get(order[i]);
+			owners[i] = ownerList.get(order[i]);
+			chosungKey[i] = chosungList.get(order[i]);
+		}
+		return new AutocompleteIndex(suggestions, names, keys, owners, chosungKey);
+	}
+
+	/**
+	 * 접두어로 시작하는 후보 상위 limit개 (공백 무시, 초성 입력 가능)
+	 */
+	public List<AutocompleteSuggestion> lookup(String prefix, int limit) {
+		String normalized = NameSearchIndex.normalize(prefix);
+		int size = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+
+		if (normalized.length() <= CACHED_PREFIX_LENGTH) {
+			List<AutocompleteSuggestion> cached = topByShortPrefix.getOrDefault(normalized, List.of());
+			return cached.size() <= size ? cached : cached.subList(0, size);
+		}
+
+		int from = lowerBound(normalized);
+		int to = upperBound(normalized, from);
+		return top(normalized, from, to, size);
+	}
+
+	public int size() {
+		return suggestions.length;
+	}
+
+	// 정렬 배열에서 같은 접두어를 가진 키는 연속되므로 길이별로 한 번씩 훑어 범위를 계산
+	private Map<String, List<AutocompleteSuggestion>> precomputeShortPrefixes() {
+		Map<String, List<AutocompleteSuggestion>> result = new HashMap<>();
+		for (int length = 1; length <= CACHED_PREFIX_LENGTH; length++) {
+			int start = 0;
+			while (start < keys.length) {
+				if (keys[start].length() < length) {
+					start++;
+					continue;
+				}
+				String prefix = keys[start].substring(0, length);
+				int end = start + 1;
+				while (end < keys.length && keys[end].startsWith(prefix)) {
+					end++;
+				}
+				result.put(prefix, List.copyOf(top(prefix, start, end, MAX_SUGGESTIONS)));
+				start = end;
+			}
+		}
+		return result;
+	}
+
+	private List<AutocompleteSuggestion> top(String prefix, int from, int to, int size) {
+		TopKSelector<AutocompleteSuggestion> selector = new TopKSelector<>(size, ORDER);
+		for (int i = from; i < to; i++) {
+			// 이름과 초성이 둘 다 일치하는 경우(영문 등) 이름 키로만 포함
+			if (chosungKey[i] && names[owners[i]].startsWith(prefix)) {
+				continue;
+			}
+			selector.offer(suggestions[owners[i]]);
+		}
+		return selector.toSortedList();
+	}
+
+	private int lowerBound(String prefix) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(prefix) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// from 이후 접두어로 시작하지 않는 첫 위치
+	private int upperBound(String prefix, int from) {
+		int low = from;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].startsWith(prefix)) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,61 @@
+package com.hospital.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hospital.entity.EmergencyLocation;
+
+/**
+ * 응급실 hpid -> 좌표/주소 조회표 (불변)
+ * - 응급실 위치는 한 달에 한 번 정도만 바뀌므로 메모리에 올려두고 조회
+ * - 갱신 시 새 조회표를 만든 뒤 참조만 교체 (EmergencyCoordinateService)
+ */
+public final class EmergencyCoordinateTable {
+
+	/**
+	 * @param coordinateX 경도
+	 * @param coordinateY 위도
+	 */
+	public record Entry(double coordinateX, double coordinateY, String address) {
+	}
+
+	private static final EmergencyCoordinateTable EMPTY = new EmergencyCoordinateTable(Map.of());
+
+	private final Map<String, Entry> entries;
+
+	private EmergencyCoordinateTable(Map<String, Entry> entries) {
+		this.entries = entries;
+	}
+
+	public static EmergencyCoordinateTable empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * 좌표가 없는 응급실은 제외하고 생성
+	 */
+	public static EmergencyCoordinateTable build(List<EmergencyLocation> locations) {
+		Map<String, Entry> entries = new HashMap<>(locations.size() * 2);
+		for (EmergencyLocation location : locations) {
+			if (location.getEmergencyCode() == null || location.getCoordinateX() == null
+					|| location.getCoordinateY() == null) {
+				continue;
+			}
+			entries.put(location.getEmergencyCode(), new Entry(location.getCoordinateX(), location.getCoordinateY(),
+					location.getEmergencyAddress()));
+		}
+		return new EmergencyCoordinateTable(Map.copyOf(entries));
+	}
+
+	/**
+	 * hpid의 좌표 (없으면 null)
+	 */
+	public Entry get(String hpid) {
+		return hpid == null ? null : entries.get(hpid);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+}
@@ -0,0 +1,253 @@
+package com.hospital.index;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.WeeklySchedule;
+import com.hospital.util.DistanceCalculator;
+import com.hospital.util.SubjectCodeWrapper;
+import com.hospital.util.TopKSelector;
+
+/**
+ * 병원 위치 검색용 격자(Grid) 인덱스
+ * - 스냅샷 생성 시 한 번 만들어지고 이후에는 읽기만 한다 (불변)
+ * - 위경도를 CELL_SIZE 단위 셀로 나누고, 병원을 셀 키 순서로 정렬해 보관
+ * - 한 행(row)의 셀들은 연속 구간이므로 행마다 이진 탐색 한 번으로 MBR 조회
+ */
+public final class HospitalSpatialIndex {
+
+	// 셀 크기 (도 단위, 위도 기준 약 1.1km)
+	public static final double CELL_SIZE = 0.01;
+
+	private static final long ROW_OFFSET = 9_000;
+	private static final long COL_OFFSET = 18_000;
+	private static final long ROW_STRIDE = 100_000;
+
+	// 셀 한 칸의 최소 거리 계산용 (위도 1도 ≈ 111km 보다 작게 잡아 가지치기를 보수적으로)
+	private static final double KM_PER_DEGREE_LOWER_BOUND = 110.0;
+
+	/**
+	 * 최근접 검색 결과 (인덱스 내 위치 + 거리 km)
+	 */
+	public record Neighbor(int position, double distanceKm) {
+	}
+
+	private final HospitalWebResponse[] hospitals;
+	private final double[] latitudes;
+	private final double[] longitudes;
+	private final long[] cellKeys;
+	private final long[] departmentMasks;
+	// 운영시간 (없으면 null)
+	private final WeeklySchedule[] schedules;
+	private final long version;
+	private final long builtAt;
+
+	private HospitalSpatialIndex(HospitalWebResponse[] hospitals, double[] latitudes, double[] longitudes,
+			long[] cellKeys, long[] departmentMasks, WeeklySchedule[] schedules, long version) {
+		this.hospitals = hospitals;
+		this.latitudes = latitudes;
+		this.longitudes = longitudes;
+		this.cellKeys = cellKeys;
+		this.departmentMasks = departmentMasks;
+		this.schedules = schedules;
+		this.version = version;
+		this.builtAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * 병원 목록으로 인덱스 생성 (좌표가 없는 병원은 제외)
+	 */
+	public static HospitalSpatialIndex build(List<HospitalWebResponse> source, long version) {
+		List<HospitalWebResponse> located = new ArrayList<>(source.size());
+		for (HospitalWebResponse hospital : source) {
+			if (hospital.getCoordinateX() != null && hospital.getCoordinateY() != null) {
+				located.add(hospital);
+			}
+		}
+
+		located.sort(Comparator.comparingLong(h -> cellKey(h.getCoordinateY(), h.getCoordinateX())));
+
+		int size = located.size();
+		HospitalWebResponse[] hospitals = new HospitalWebResponse[size];
+		double[] latitudes = new double[size];
+		double[] longitudes = new double[size];
+		long[] cellKeys = new long[size];
+		long[] departmentMasks = new long[size];
+		WeeklySchedule[] schedules = new WeeklySchedule[size];
+
+		for (int i = 0; i < size; i++) {
+			HospitalWebResponse hospital = located.get(i);
+			hospitals[i] = hospital;
+			latitudes[i] = hospital.getCoordinateY();
+			longitudes[i] = hospital.getCoordinateX();
+			cellKeys[i] = cellKey(latitudes[i], longitudes[i]);
+			departmentMasks[i] = SubjectCodeWrapper.departmentMask(hospital.getMedicalSubjects());
+			schedules[i] = hospital.getWeeklySchedule();
+		}
+
+		return new HospitalSpatialIndex(hospitals, latitudes, longitudes, cellKeys, departmentMasks,
+				schedules, version);
+	}
+
+	/**
+	 * MBR(사각형) 안에 있는 병원 위치(position)를 consumer로 전달
+	 */
+	public void forEachInBox(double minLon, double maxLon, double minLat, double maxLat, IntConsumer consumer) {
+		long minRow = row(minLat);
+		long maxRow = row(maxLat);
+		long minCol = col(minLon);
+		long maxCol = col(maxLon);
+
+		for (long row = minRow; row <= maxRow; row++) {
+			forEachInRow(row, minCol, maxCol, i -> {
+				double lat = latitudes[i];
+				double lon = longitudes[i];
+				if (lat >= minLat && lat <= maxLat && lon >= minLon && lon <= maxLon) {
+					consumer.accept(i);
+				}
+			});
+		}
+	}
+
+	/**
+	 * 최근접 K개 검색
+	 * - 중심 셀부터 한 겹(ring)씩 넓혀가며 후보마다 거리를 한 번만 계산
+	 * - K개가 찼고 다음 겹의 최소 거리가 현재 K번째 거리 이상이면 중단
+	 * @param maxRadiusKm 이 거리를 넘는 병원은 제외
+	 * @param filter 후보 조건 (진료과 등), null이면 전체
+	 * @return 거리 오름차순 결과
+	 */
+	public List<Neighbor> nearest(DistanceCalculator distanceCalculator, double lat, double lng, int k,
+			double maxRadiusKm, IntPredicate filter) {
+
+		TopKSelector<Neighbor> selector = new TopKSelector<>(k, Comparator.comparingDouble(Neighbor::distanceKm));
+		if (hospitals.length == 0) {
+			return selector.toSortedList();
+		}
+
+		// 경도 방향 셀 폭은 위도가 높을수록 좁아지므로 검색 범위 위쪽 위도 기준으로 계산
+		double edgeLat = Math.min(89.0, Math.abs(lat) + maxRadiusKm / KM_PER_DEGREE_LOWER_BOUND);
+		double kmPerCell = CELL_SIZE * KM_PER_DEGREE_LOWER_BOUND * Math.cos(Math.toRadians(edgeLat));
+
+		long centerRow = row(lat);
+		long centerCol = col(lng);
+		long maxRing = (long) Math.ceil(maxRadiusKm / kmPerCell) + 1;
+
+		IntConsumer visit = i -> {
+			if (filter != null && !filter.test(i)) {
+				return;
+			}
+			double distance = distanceCalculator.calculateDistance(lat, lng, latitudes[i], longitudes[i]);
+			if (distance <= maxRadiusKm) {
+				selector.offer(new Neighbor(i, distance));
+			}
+		};
+
+		for (long ring = 0; ring <= maxRing; ring++) {
+			if (ring == 0) {
+				forEachInRow(centerRow, centerCol, centerCol, visit);
+			} else {
+				// 위/아래 변은 전체, 좌/우 변은 양 끝 셀만
+				forEachInRow(centerRow - ring, centerCol - ring, centerCol + ring, visit);
+				forEachInRow(centerRow + ring, centerCol - ring, centerCol + ring, visit);
+				for (long row = centerRow - ring + 1; row <= centerRow + ring - 1; row++) {
+					forEachInRow(row, centerCol - ring, centerCol - ring, visit);
+					forEachInRow(row, centerCol + ring, centerCol + ring, visit);
+				}
+			}
+
+			// 다음 겹(ring + 1)에 있는 점은 최소 ring칸 이상 떨어져 있음
+			double nextRingMinKm = ring * kmPerCell;
+			if (nextRingMinKm > maxRadiusKm) {
+				break;
+			}
+			if (selector.isFull() && nextRingMinKm >= selector.worst().distanceKm()) {
+				break;
+			}
+		}
+
+		return selector.toSortedList();
+	}
+
+	public HospitalWebResponse get(int position) {
+		return hospitals[position];
+	}
+
+	public double latitude(int position) {
+		return latitudes[position];
+	}
+
+	public double longitude(int position) {
+		return longitudes[position];
+	}
+
+	public long departmentMask(int position) {
+		return departmentMasks[position];
+	}
+
+	/**
+	 * 해당 요일/시각(자정 기준 분)에 운영 중인지 여부
+	 * - 당일 운영시간 또는 전날 밤부터 자정을 넘겨 이어지는 운영시간에 포함되면 true
+	 */
+	public boolean isOpenAt(int position, DayOfWeek day, int minuteOfDay) {
+		WeeklySchedule schedule = schedules[position];
+		return schedule != null && schedule.isOpenAt(day, minuteOfDay);
+	}
+
+	public int size() {
+		return hospitals.length;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public long getBuiltAt() {
+		return builtAt;
+	}
+
+	// 한 행(row)에서 [fromCol, toCol] 셀에 속한 위치를 순회
+	private void forEachInRow(long row, long fromCol, long toCol, IntConsumer consumer) {
+		long toKey = key(row, toCol);
+		int i = lowerBound(key(row, fromCol));
+		while (i < cellKeys.length && cellKeys[i] <= toKey) {
+			consumer.accept(i);
+			i++;
+		}
+	}
+
+	// cellKeys에서 key 이상인 첫 위치
+	private int lowerBound(long key) {
+		int index = Arrays.binarySearch(cellKeys, key);
+		if (index < 0) {
+			return -index - 1;
+		}
+		// 같은 키가 여러 개면 맨 앞으로 이동
+		while (index > 0 && cellKeys[index - 1] == key) {
+			index--;
+		}
+		return index;
+	}
+
+	static long cellKey(double lat, double lon) {
+		return key(row(lat), col(lon));
+	}
+
+	private static long row(double lat) {
+		return (long) Math.floor(lat / CELL_SIZE);
+	}
+
+	private static long col(double lon) {
+		return (long) Math.floor(lon / CELL_SIZE);
+	}
+
+	private static long key(long row, long col) {
+		return (row + ROW_OFFSET) * ROW_STRIDE + (col + COL_OFFSET);
+	}
+}
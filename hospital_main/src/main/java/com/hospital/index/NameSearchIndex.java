@@ -0,0 +1,207 @@
+package com.hospital.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 이름 부분일치 검색용 메모리 역색인 (불변)
+ * - 공백 제거 + 소문자화한 이름을 2글자 단위(bigram)로 잘라 글자쌍 -> 항목 번호 목록(오름차순)을 저장
+ * - 검색어의 bigram 목록을 짧은 것부터 교집합한 뒤 실제 포함 여부로 확정 (LIKE '%검색어%'와 같은 결과)
+ * - 재생성 시 새 인덱스를 만든 뒤 참조만 교체
+ */
+public final class NameSearchIndex<T> {
+
+	public static final int NO_MATCH = Integer.MAX_VALUE;
+
+	private static final int[] EMPTY = new int[0];
+
+	private final List<T> items;
+	private final String[] names;
+	private final Map<Integer, int[]> postings;
+
+	private NameSearchIndex(List<T> items, String[] names, Map<Integer, int[]> postings) {
+		this.items = items;
+		this.names = names;
+		this.postings = postings;
+	}
+
+	/**
+	 * 항목 목록으로 인덱스 생성 (이름이 없는 항목은 검색되지 않음)
+	 */
+	public static <T> NameSearchIndex<T> build(List<T> items, Function<T, String> nameOf) {
+		List<T> copy = List.copyOf(items);
+		String[] names = new String[copy.size()];
+		Map<Integer, IntList> lists = new HashMap<>();
+
+		for (int i = 0; i < names.length; i++) {
+			String name = normalize(nameOf.apply(copy.get(i)));
+			names[i] = name;
+			for (int c = 0; c + 1 < name.length(); c++) {
+				// 같은 이름 안에서 같은 bigram이 반복되면 한 번만 추가 (항목 번호가 오름차순으로 들어오므로 마지막 값만 확인)
+				lists.computeIfAbsent(bigram(name, c), k -> new IntList()).addIfLastDiffers(i);
+			}
+		}
+
+		Map<Integer, int[]> postings = new HashMap<>(lists.size() * 4 / 3 + 1);
+		lists.forEach((key, list) -> postings.put(key, list.toArray()));
+		return new NameSearchIndex<>(copy, names, postings);
+	}
+
+	/**
+	 * 검색 비교용 정규화 (공백 제거 + 소문자)
+	 */
+	public static String normalize(String name) {
+		if (name == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(name.length());
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 이름에 검색어를 포함하는 항목 (정확히 일치 > 앞부분 일치 > 일치 위치 > 짧은 이름 순)
+	 * - 검색어는 정규화 후 2글자 이상이어야 함
+	 */
+	public List<T> search(String query) {
+		List<Hit> hits = new ArrayList<>();
+		forEachMatch(query, (item, position, score) -> hits.add(new Hit(position, score)));
+
+		hits.sort(Comparator.comparingInt(Hit::score).thenComparingInt(Hit::position));
+
+		List<T> result = new ArrayList<>(hits.size());
+		for (Hit hit : hits) {
+			result.add(items.get(hit.position()));
+		}
+		return result;
+	}
+
+	/**
+	 * 이름에 검색어를 포함하는 항목마다 호출 (정렬하지 않음, 항목 번호 순)
+	 * - 호출 측에서 다른 기준(거리 등)과 합쳐 상위 K개만 고를 때 사용
+	 */
+	public void forEachMatch(String query, MatchConsumer<T> consumer) {
+		String normalized = normalize(query);
+		if (normalized.length() < 2) {
+			return;
+		}
+
+		for (int position : candidates(normalized)) {
+			int score = matchScore(names[position], normalized);
+			if (score != NO_MATCH) {
+				consumer.accept(items.get(position), position, score);
+			}
+		}
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	/**
+	 * 일치 점수의 등급 (0: 정확히 일치, 1: 앞부분 일치, 2: 중간 일치)
+	 */
+	public static int matchRank(int score) {
+		return score / 1_000_000;
+	}
+
+	/**
+	 * 이름-검색어 일치 점수 (낮을수록 우선, 일치하지 않으면 NO_MATCH)
+	 * - 정확히 일치 > 앞부분 일치 > 중간 일치, 같으면 일치 위치가 앞설수록, 이름이 짧을수록 우선
+	 * - 출처가 다른 결과(병원/약국, 색인/DB)를 같은 기준으로 합칠 때도 사용
+	 */
+	public static int matchScore(String normalizedName, String normalizedQuery) {
+		int matchAt = normalizedName.indexOf(normalizedQuery);
+		if (matchAt < 0) {
+			return NO_MATCH;
+		}
+		int rank = matchAt > 0 ? 2 : normalizedName.length() == normalizedQuery.length() ? 0 : 1;
+		return rank * 1_000_000 + Math.min(matchAt, 999) * 1_000 + Math.min(normalizedName.length(), 999);
+	}
+
+	// 검색어의 모든 bigram을 포함하는 항목 번호 (posting이 짧은 것부터 교집합)
+	private int[] candidates(String query) {
+		int count = query.length() - 1;
+		int[][] lists = new int[count][];
+		for (int c = 0; c < count; c++) {
+			int[] list = postings.get(bigram(query, c));
+			if (list == null) {
+				return EMPTY;
+			}
+			lists[c] = list;
+		}
+		Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+		int[] result = lists[0];
+		for (int i = 1; i < lists.length && result.length > 0; i++) {
+			if (lists[i] != lists[i - 1]) {
+				result = intersect(result, lists[i]);
+			}
+		}
+		return result;
+	}
+
+	// 짧은 목록의 각 원소를 긴 목록에서 이진 탐색 (긴 목록 탐색 시작점은 계속 앞으로만 이동)
+	private static int[] intersect(int[] shorter, int[] longer) {
+		int[] out = new int[shorter.length];
+		int size = 0;
+		int from = 0;
+		for (int value : shorter) {
+			int found = Arrays.binarySearch(longer, from, longer.length, value);
+			if (found >= 0) {
+				out[size++] = value;
+				from = found + 1;
+			} else {
+				from = -found - 1;
+			}
+			if (from >= longer.length) {
+				break;
+			}
+		}
+		return Arrays.copyOf(out, size);
+	}
+
+	private static int bigram(String s, int index) {
+		return (s.charAt(index) << 16) | s.charAt(index + 1);
+	}
+
+	@FunctionalInterface
+	public interface MatchConsumer<T> {
+
+		void accept(T item, int position, int score);
+	}
+
+	private record Hit(int position, int score) {
+	}
+
+	// 항목 번호 목록 (생성 중에만 사용)
+	private static final class IntList {
+
+		private int[] values = new int[4];
+		private int size;
+
+		void addIfLastDiffers(int value) {
+			if (size > 0 && values[size - 1] == value) {
+				return;
+			}
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
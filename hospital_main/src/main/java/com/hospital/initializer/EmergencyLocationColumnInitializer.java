@@ -0,0 +1,63 @@
+package com.hospital.initializer;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * emergency_Location 좌표 컬럼을 문자열에서 DOUBLE로 변환
+ * - hbm2ddl(update)은 기존 컬럼 타입을 바꾸지 않으므로 직접 변환
+ * - 숫자가 아닌 값(빈 문자열 등)은 NULL로 바꾼 뒤 타입 변경
+ * - 이미 DOUBLE이면 아무 작업도 하지 않음
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class EmergencyLocationColumnInitializer {
+
+    private static final String COLUMN_TYPE_SQL = """
+            SELECT DATA_TYPE
+            FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'emergency_Location' AND COLUMN_NAME = ?
+            """;
+
+    private static final String NUMERIC_PATTERN = "'^[[:space:]]*-?[0-9]+(\\\\.[0-9]+)?[[:space:]]*$'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public EmergencyLocationColumnInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        for (String column : List.of("coordinate_X", "coordinate_Y")) {
+            try {
+                convertToDouble(column);
+            } catch (Exception e) {
+                // 변환 실패 시 기존 컬럼 그대로 기동 (좌표 조회표 적재 시 다시 오류 로그)
+                log.error("emergency_Location.{} DOUBLE 변환 실패", column, e);
+            }
+        }
+    }
+
+    private void convertToDouble(String column) {
+        String dataType = jdbcTemplate.queryForList(COLUMN_TYPE_SQL, String.class, column)
+                .stream().findFirst().orElse(null);
+        if (dataType == null || "double".equalsIgnoreCase(dataType)) {
+            return;
+        }
+
+        int cleared = jdbcTemplate.update("UPDATE emergency_Location SET " + column + " = NULL WHERE "
+                + column + " NOT REGEXP " + NUMERIC_PATTERN);
+        jdbcTemplate.execute("ALTER TABLE emergency_Location MODIFY " + column + " DOUBLE NULL");
+        log.info("emergency_Location.{} DOUBLE 변환 완료 (숫자가 아닌 값 {}건 NULL 처리)", column, cleared);
+    }
+}
@@ -0,0 +1,74 @@
+package com.hospital.initializer;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * pharmacy.location 컬럼 / SPATIAL 인덱스 준비
+ * - hbm2ddl(update)은 컬럼만 NULL 허용으로 추가하므로 기존 행을 위경도로 채운 뒤 NOT NULL + SPATIAL 인덱스 생성
+ * - 이미 준비된 경우 아무 작업도 하지 않음
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class PharmacyLocationInitializer {
+
+    private static final String INDEX_NAME = "idx_pharmacy_location";
+
+    // 좌표가 없는 행은 PharmacyApiParser와 같이 POINT(0 0)
+    private static final String BACKFILL_SQL = """
+            UPDATE pharmacy
+            SET location = ST_GeomFromText(
+                    CONCAT('POINT(', COALESCE(longitude, 0), ' ', COALESCE(latitude, 0), ')'), 4326)
+            WHERE location IS NULL
+            """;
+
+    private static final String COLUMN_INFO_SQL = """
+            SELECT IS_NULLABLE,
+                   (SELECT COUNT(*) FROM information_schema.STATISTICS s
+                     WHERE s.TABLE_SCHEMA = c.TABLE_SCHEMA AND s.TABLE_NAME = c.TABLE_NAME
+                       AND s.INDEX_NAME = ?) AS index_count
+            FROM information_schema.COLUMNS c
+            WHERE c.TABLE_SCHEMA = DATABASE() AND c.TABLE_NAME = 'pharmacy' AND c.COLUMN_NAME = 'location'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PharmacyLocationInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            Map<String, Object> column = jdbcTemplate.queryForList(COLUMN_INFO_SQL, INDEX_NAME)
+                    .stream().findFirst().orElse(null);
+            if (column == null) {
+                log.warn("pharmacy.location 컬럼이 없어 SPATIAL 인덱스 생성을 건너뜀");
+                return;
+            }
+
+            if ("YES".equals(column.get("IS_NULLABLE"))) {
+                int updated = jdbcTemplate.update(BACKFILL_SQL);
+                jdbcTemplate.execute("ALTER TABLE pharmacy MODIFY location POINT NOT NULL");
+                log.info("pharmacy.location 채움: {}건, NOT NULL 적용", updated);
+            }
+
+            if (((Number) column.get("index_count")).intValue() == 0) {
+                jdbcTemplate.execute("CREATE SPATIAL INDEX " + INDEX_NAME + " ON pharmacy (location)");
+                log.info("pharmacy SPATIAL 인덱스 생성: {}", INDEX_NAME);
+            }
+        } catch (Exception e) {
+            // 인덱스가 없어도 조회는 가능하므로 기동은 계속
+            log.error("pharmacy.location 준비 실패", e);
+        }
+    }
+}
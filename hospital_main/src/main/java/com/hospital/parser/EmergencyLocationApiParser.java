@@ -47,8 +47,22 @@ public class EmergencyLocationApiParser {
 			return null;
 		}
 
-		return EmergencyLocation.builder().emergencyCode(itemDto.getHpid()).coordinateX(itemDto.getCoordinateX())
-				.coordinateY(itemDto.getCoordinateY()).emergencyAddress(itemDto.getEmergencyAddress()).build();
+		return EmergencyLocation.builder().emergencyCode(itemDto.getHpid())
+				.coordinateX(parseCoordinate(itemDto.getCoordinateX()))
+				.coordinateY(parseCoordinate(itemDto.getCoordinateY()))
+				.emergencyAddress(itemDto.getEmergencyAddress()).build();
+	}
+
+	// API 좌표 문자열 -> 숫자 (비어 있거나 형식이 다르면 null)
+	private Double parseCoordinate(String coordinate) {
+		if (coordinate == null || coordinate.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return Double.parseDouble(coordinate.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
 	}
 
 }
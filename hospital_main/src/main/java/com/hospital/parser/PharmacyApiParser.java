@@ -8,6 +8,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.stereotype.Component;
 
 import com.hospital.dto.PharmacyApiItem;
@@ -22,6 +26,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PharmacyApiParser {
 
+    // hospital_main.location과 같은 WGS84 (SRID 4326)
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
     public List<Pharmacy> parsePharmacies(PharmacyApiResponse apiResponseDto) {
         log.debug("약국 데이터 파싱 시작");
         
@@ -86,6 +93,7 @@ public class PharmacyApiParser {
                 .postCode2(itemDto.getPostCdn2())
                 .latitude(itemDto.getWgs84Lat())
                 .longitude(itemDto.getWgs84Lon())
+                .location(toPoint(itemDto.getWgs84Lat(), itemDto.getWgs84Lon()))
                 .ykiho(itemDto.getHpid())
                 // 운영 시간 (월요일)
                 .mondayOpen(itemDto.getDutyTime1s())
@@ -114,6 +122,17 @@ public class PharmacyApiParser {
                 .build();
     }
 
+    /**
+     * 위경도 -> POINT(경도 위도)
+     * - SPATIAL 인덱스 컬럼은 NULL을 허용하지 않으므로 좌표가 없으면 POINT(0 0) 저장 (국내 검색 범위 밖)
+     */
+    private Point toPoint(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return GEOMETRY_FACTORY.createPoint(new Coordinate(0, 0));
+        }
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+    }
+
     /**
      * 기존 메서드 - 하위 호환성을 위해 유지
      */
@@ -0,0 +1,61 @@
+package com.hospital.repository;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+/**
+ * 고정 크기 IN 목록 (보조 조회, 코드 목록 조회 공용)
+ * - IN (?) 개수가 SMALL_SIZE / CHUNK_SIZE 두 가지뿐이라 SQL 모양이 고정되어
+ *   prepared statement 캐시(cachePrepStmts, useServerPrepStmts)를 재사용
+ * - 남는 자리는 NULL로 채움 (IN 비교에서 어떤 값과도 일치하지 않음)
+ */
+final class FixedInList {
+
+    static final int CHUNK_SIZE = 100;
+    static final int SMALL_SIZE = 10;
+
+    private static final String CHUNK_PLACEHOLDERS = "(" + String.join(",", Collections.nCopies(CHUNK_SIZE, "?")) + ")";
+    private static final String SMALL_PLACEHOLDERS = "(" + String.join(",", Collections.nCopies(SMALL_SIZE, "?")) + ")";
+    private static final SqlParameterValue NULL_VARCHAR = new SqlParameterValue(Types.VARCHAR, null);
+
+    private FixedInList() {
+    }
+
+    /**
+     * CHUNK_SIZE개씩 나눠서 "sqlPrefix (?,?,...)" 조회
+     * @param timeoutSeconds 문장별 쿼리 타임아웃 (초, QueryTimeout.NONE이면 없음)
+     */
+    static void query(JdbcTemplate template, String sqlPrefix, List<String> values, int timeoutSeconds,
+            RowCallbackHandler handler) {
+        for (int from = 0; from < values.size(); from += CHUNK_SIZE) {
+            List<String> chunk = values.subList(from, Math.min(from + CHUNK_SIZE, values.size()));
+            int size = sizeFor(chunk.size());
+
+            template.query(QueryTimeout.statement(sqlPrefix + placeholders(size), timeoutSeconds,
+                paddedParams(chunk, size)), handler);
+        }
+    }
+
+    // 값 개수(CHUNK_SIZE 이하)에 맞는 고정 크기
+    static int sizeFor(int valueCount) {
+        return valueCount <= SMALL_SIZE ? SMALL_SIZE : CHUNK_SIZE;
+    }
+
+    // 고정 크기 IN 목록 "(?,?,...)" - 길이가 SMALL_SIZE 이하면 작은 모양 사용
+    static String placeholders(int size) {
+        return size <= SMALL_SIZE ? SMALL_PLACEHOLDERS : CHUNK_PLACEHOLDERS;
+    }
+
+    static Object[] paddedParams(List<String> values, int size) {
+        Object[] params = new Object[size];
+        for (int i = 0; i < size; i++) {
+            params[i] = i < values.size() ? values.get(i) : NULL_VARCHAR;
+        }
+        return params;
+    }
+}
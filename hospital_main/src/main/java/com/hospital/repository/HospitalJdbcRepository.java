@@ -1,13 +1,19 @@
 package com.hospital.repository;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Consumer;
 
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
 import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.NameMatch;
+import com.hospital.util.SubjectCodeWrapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,29 +21,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class HospitalJdbcRepository {
     
-    private final JdbcTemplate jdbcTemplate;
-    
-    public List<HospitalWebResponse> findByMBRDirect(
-            double minLon, double maxLon, 
-            double minLat, double maxLat) {
-        
-        // 1. Hospital + Detail 조회
-        List<HospitalWebResponse> hospitals = queryHospitals(minLon, maxLon, minLat, maxLat);
-        
-        if (hospitals.isEmpty()) {
-            return hospitals;
-        }
-        
-        // 2. 연관 데이터 로드
-        loadMedicalSubjects(hospitals);
-        loadProDocs(hospitals);
-        
-        return hospitals;
-    }
-    
-    private List<HospitalWebResponse> queryHospitals(double minLon, double maxLon, double minLat, double maxLat) {
-        String sql = """
-            SELECT
+    private static final String HOSPITAL_COLUMNS = """
                 h.hospital_code, h.hospital_name, h.hospital_address, h.hospital_tel,
                 h.doctor_num, h.coordinate_x, h.coordinate_y,
                 d.weekday_lunch, d.parking_capacity, d.park_xpns_yn, d.noTrmtHoli, d.noTrmtSun,
@@ -45,9 +29,16 @@ public class HospitalJdbcRepository {
                 d.wed_open, d.wed_end, d.thurs_open, d.thurs_end,
                 d.fri_open, d.fri_end, d.trmt_sat_start, d.trmt_sat_end,
                 d.trmt_sun_start, d.trmt_sun_end
+            """;
+
+    private static final String HOSPITAL_FROM = """
             FROM hospital_main h
             LEFT JOIN hospital_detail d ON h.hospital_code = d.hospital_code
-            WHERE MBRContains(
+            """;
+
+    // 공간 인덱스(location)를 타는 MBR 조건 - 파라미터: 사각형 꼭짓점 5개 (lon, lat)
+    private static final String MBR_CONDITION = """
+            MBRContains(
                 ST_GeomFromText(
                     CONCAT('POLYGON((', ?, ' ', ?, ',', ?, ' ', ?, ',',
                                         ?, ' ', ?, ',', ?, ' ', ?, ',', ?, ' ', ?, '))'),
@@ -57,48 +48,324 @@ public class HospitalJdbcRepository {
             )
             """;
 
-        return jdbcTemplate.query(sql,
-            new HospitalRowMapper(),
-            minLon, minLat, maxLon, minLat, maxLon, maxLat, minLon, maxLat, minLon, minLat
+    // 사용자 위치까지의 실제 거리 (km) - 파라미터: lon, lat
+    private static final String DISTANCE_COLUMN = """
+            ST_Distance_Sphere(
+                h.location,
+                ST_GeomFromText(CONCAT('POINT(', ?, ' ', ?, ')'), 4326)
+            ) / 1000 AS distance
+            """;
+
+    // 이름 부분일치 코드 조회 (이름 색인 준비 전 대체 경로) - 정확히 일치 > 앞부분 일치 > 일치 위치 > 짧은 이름 순
+    private static final String NAME_MATCH_SQL = """
+            SELECT h.hospital_code, h.hospital_name
+            FROM hospital_main h
+            WHERE REPLACE(h.hospital_name, ' ', '') LIKE CONCAT('%', ?, '%')
+            ORDER BY CASE WHEN REPLACE(h.hospital_name, ' ', '') = ? THEN 0
+                          WHEN REPLACE(h.hospital_name, ' ', '') LIKE CONCAT(?, '%') THEN 1
+                          ELSE 2 END,
+                     LOCATE(?, REPLACE(h.hospital_name, ' ', '')),
+                     CHAR_LENGTH(h.hospital_name),
+                     h.hospital_code
+            LIMIT ?
+            """;
+
+    // 위치 기준 이름 부분일치 조회 - 거리 + 일치 등급 가중치 순 (좌표가 없으면 지정한 거리)
+    private static final String NAME_MATCH_NEAR_SQL = """
+            SELECT h.hospital_code, h.hospital_name,
+                   COALESCE(ST_Distance_Sphere(
+                       h.location, ST_GeomFromText(CONCAT('POINT(', ?, ' ', ?, ')'), 4326)
+                   ) / 1000, ?) AS distance
+            FROM hospital_main h
+            WHERE REPLACE(h.hospital_name, ' ', '') LIKE CONCAT('%', ?, '%')
+            ORDER BY distance + ? * CASE WHEN REPLACE(h.hospital_name, ' ', '') = ? THEN 0
+                                         WHEN REPLACE(h.hospital_name, ' ', '') LIKE CONCAT(?, '%') THEN 1
+                                         ELSE 2 END,
+                     h.hospital_code
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    
+    // 스냅샷 생성용 전체 조회 (병원 + 상세 + 진료과목 + 전문의)
+    public List<HospitalWebResponse> findAllForSnapshot() {
+        List<HospitalWebResponse> hospitals = jdbcTemplate.query(
+            "SELECT " + HOSPITAL_COLUMNS + " " + HOSPITAL_FROM,
+            new HospitalRowMapper()
         );
+
+        if (hospitals.isEmpty()) {
+            return hospitals;
+        }
+
+        Map<String, List<String>> subjects = new HashMap<>();
+        jdbcTemplate.query("SELECT hospital_code, subjects FROM medical_subject",
+            rs -> { collectMedicalSubject(rs, subjects); });
+
+        Map<String, Map<String, Integer>> proDocs = new HashMap<>();
+        jdbcTemplate.query("SELECT hospital_code, subject_name, pro_doc_count FROM pro_doc",
+            rs -> { collectProDoc(rs, proDocs); });
+
+        hospitals.forEach(h -> {
+            h.setMedicalSubjects(subjects.getOrDefault(h.getHospitalCode(), List.of()));
+            h.setProfessionalDoctors(proDocs.getOrDefault(h.getHospitalCode(), Map.of()));
+        });
+        return hospitals;
+    }
+
+    /**
+     * 반경(원) 검색 - 거리 계산, 정렬, LIMIT까지 DB에서 처리
+     * MBR 조건으로 공간 인덱스를 먼저 타고, 실제 거리로 모서리 영역을 걸러냄
+     * @param departments 진료과 필터 (null이면 전체)
+     * @param limit 최대 개수 (null 또는 0 이하면 제한 없음)
+     */
+    public List<HospitalWebResponse> findWithinRadius(
+            double userLat, double userLng, double radiusKm,
+            double minLon, double maxLon, double minLat, double maxLat,
+            List<String> departments, Integer limit) {
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = radiusQuery(userLat, userLng, radiusKm, minLon, maxLon, minLat, maxLat, departments, params);
+
+        sql.append("ORDER BY distance\n");
+        if (limit != null && limit > 0) {
+            sql.append("LIMIT ?");
+            params.add(limit);
+        }
+
+        HospitalRowMapper rowMapper = new HospitalRowMapper();
+        List<HospitalWebResponse> hospitals = jdbcTemplate.query(sql.toString(),
+            (rs, rowNum) -> mapWithDistance(rowMapper, rs, rowNum), params.toArray());
+
+        if (!hospitals.isEmpty()) {
+            loadMedicalSubjects(hospitals, QueryTimeout.NONE);
+            loadProDocs(hospitals, QueryTimeout.NONE);
+        }
+        return hospitals;
+    }
+
+    /**
+     * 반경(원) 검색 스트리밍 - 전체 목록을 만들지 않고 chunkSize 단위로 전달 (정렬 없음)
+     * 각 묶음은 진료과목/전문의 정보까지 채워서 전달 (목록은 재사용되므로 consumer 안에서 바로 처리할 것)
+     * fetchSize를 지정해 드라이버가 결과 전체를 메모리에 올리지 않고 chunkSize 행씩 받아오도록 함
+     * (스트리밍 중인 커넥션에서 다른 쿼리를 실행하면 남은 결과를 모두 읽어 버리므로 트랜잭션 밖에서 호출할 것)
+     */
+    public void streamWithinRadius(
+            double userLat, double userLng, double radiusKm,
+            double minLon, double maxLon, double minLat, double maxLat,
+            List<String> departments, int chunkSize,
+            Consumer<List<HospitalWebResponse>> chunkConsumer) {
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = radiusQuery(userLat, userLng, radiusKm, minLon, maxLon, minLat, maxLat, departments, params);
+
+        HospitalRowMapper rowMapper = new HospitalRowMapper();
+        List<HospitalWebResponse> chunk = new ArrayList<>(chunkSize);
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(
+                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(chunkSize);
+            new ArgumentPreparedStatementSetter(params.toArray()).setValues(ps);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            chunk.add(mapWithDistance(rowMapper, rs, chunk.size()));
+            if (chunk.size() >= chunkSize) {
+                emitChunk(chunk, chunkConsumer);
+            }
+        });
+
+        if (!chunk.isEmpty()) {
+            emitChunk(chunk, chunkConsumer);
+        }
+    }
+
+    private void emitChunk(List<HospitalWebResponse> chunk, Consumer<List<HospitalWebResponse>> chunkConsumer) {
+        loadMedicalSubjects(chunk, QueryTimeout.NONE);
+        loadProDocs(chunk, QueryTimeout.NONE);
+        chunkConsumer.accept(chunk);
+        chunk.clear();
+    }
+
+    // 반경 검색 공통 SQL (ORDER BY / LIMIT 제외), params에 바인딩 값 추가
+    private StringBuilder radiusQuery(
+            double userLat, double userLng, double radiusKm,
+            double minLon, double maxLon, double minLat, double maxLat,
+            List<String> departments, List<Object> params) {
+
+        StringBuilder sql = new StringBuilder()
+            .append("SELECT ").append(HOSPITAL_COLUMNS).append(", ").append(DISTANCE_COLUMN)
+            .append(HOSPITAL_FROM)
+            .append("WHERE ").append(MBR_CONDITION);
+
+        params.add(userLng);
+        params.add(userLat);
+        params.addAll(mbrParams(minLon, maxLon, minLat, maxLat));
+
+        boolean hasDepartments = departments != null && !departments.isEmpty();
+        if (hasDepartments && SubjectCodeWrapper.isMaskable(departments)) {
+            // 진료과 비트마스크 AND 한 번으로 필터링
+            // (병원 수집 직후 아직 마스크가 계산되지 않은(NULL) 병원은 진료과목 테이블로 확인)
+            sql.append("AND ((h.department_mask & ?) <> 0 OR (h.department_mask IS NULL AND ");
+            params.add(SubjectCodeWrapper.departmentMask(departments));
+            appendSubjectExists(sql, departments, params);
+            sql.append("))\n");
+        } else if (hasDepartments) {
+            // 코드표에 없는 진료과명
+            sql.append("AND ");
+            appendSubjectExists(sql, departments, params);
+            sql.append("\n");
+        }
+
+        sql.append("HAVING distance <= ?\n");
+        params.add(radiusKm);
+        return sql;
+    }
+
+    // 진료과목 EXISTS 조건 - 보통은 작은 고정 IN 목록 하나, CHUNK_SIZE를 넘으면 고정 크기 IN 목록을 OR로 연결
+    private void appendSubjectExists(StringBuilder sql, List<String> departments, List<Object> params) {
+        sql.append("""
+            EXISTS (
+                SELECT 1 FROM medical_subject m
+                WHERE m.hospital_code = h.hospital_code AND (""");
+        for (int from = 0; from < departments.size(); from += FixedInList.CHUNK_SIZE) {
+            List<String> names = departments.subList(from, Math.min(from + FixedInList.CHUNK_SIZE, departments.size()));
+            int size = FixedInList.sizeFor(names.size());
+            if (from > 0) {
+                sql.append(" OR ");
+            }
+            sql.append("m.subjects IN ").append(FixedInList.placeholders(size));
+            params.addAll(Arrays.asList(FixedInList.paddedParams(names, size)));
+        }
+        sql.append("))");
+    }
+
+    private HospitalWebResponse mapWithDistance(HospitalRowMapper rowMapper, ResultSet rs, int rowNum)
+            throws SQLException {
+        HospitalWebResponse hospital = rowMapper.mapRow(rs, rowNum);
+        hospital.setDistance(rs.getDouble("distance"));
+        return hospital;
+    }
+
+    /**
+     * hospital_main.department_mask를 medical_subject 기준으로 DB 안에서 다시 계산 (값이 바뀐 병원만 갱신)
+     * - 진료과명 -> 비트는 SubjectCodeWrapper 값을 CASE 식에 바인딩 (행을 애플리케이션으로 읽어오지 않음)
+     * - 진료과목이 없는 병원은 0
+     * @return 갱신된 병원 수
+     */
+    public int refreshDepartmentMasks() {
+        Map<String, Long> masks = SubjectCodeWrapper.departmentMasks();
+        StringBuilder maskCase = new StringBuilder("CASE m.subjects");
+        List<Object> params = new ArrayList<>(masks.size() * 2);
+        masks.forEach((name, mask) -> {
+            maskCase.append(" WHEN ? THEN ?");
+            params.add(name);
+            params.add(mask);
+        });
+        maskCase.append(" ELSE 0 END");
+
+        String sql = """
+            UPDATE hospital_main h
+            LEFT JOIN (
+                SELECT m.hospital_code, BIT_OR(%s) AS mask
+                FROM medical_subject m
+                GROUP BY m.hospital_code
+            ) s ON s.hospital_code = h.hospital_code
+            SET h.department_mask = COALESCE(s.mask, 0)
+            WHERE NOT (h.department_mask <=> COALESCE(s.mask, 0))
+            """.formatted(maskCase);
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * 이름 검색 1단계 - 일치하는 병원코드/이름만 순위순으로 조회 (공백 무시 부분일치)
+     * 순위: 정확히 일치 > 앞부분 일치 > 일치 위치 > 짧은 이름 (NameSearchIndex와 동일)
+     * @param normalizedName 공백을 제거한 검색어
+     * @param timeoutSeconds 쿼리 타임아웃 (초, 호출 측 응답 기한에 맞춤)
+     */
+    public List<NameMatch> findNameMatches(String normalizedName, int limit, int timeoutSeconds) {
+        return jdbcTemplate.query(QueryTimeout.statement(NAME_MATCH_SQL, timeoutSeconds,
+                normalizedName, normalizedName, normalizedName, normalizedName, limit),
+            (rs, rowNum) -> new NameMatch(rs.getString(1), rs.getString(2), null));
+    }
+
+    /**
+     * 위치 기준 이름 검색 1단계 - (거리 km + 일치 등급 x rankWeightKm)이 작은 순으로 limit개
+     * @param unknownDistanceKm 좌표가 없는 병원에 쓸 거리
+     */
+    public List<NameMatch> findNameMatchesNear(String normalizedName, double userLat, double userLng,
+            double rankWeightKm, double unknownDistanceKm, int limit, int timeoutSeconds) {
+        return jdbcTemplate.query(QueryTimeout.statement(NAME_MATCH_NEAR_SQL, timeoutSeconds,
+                userLng, userLat, unknownDistanceKm, normalizedName,
+                rankWeightKm, normalizedName, normalizedName, limit),
+            (rs, rowNum) -> new NameMatch(rs.getString(1), rs.getString(2), rs.getDouble(3)));
     }
-    private void loadMedicalSubjects(List<HospitalWebResponse> hospitals) {
+
+    /**
+     * 이름 검색 2단계 - 병원코드 목록을 같은 순서로 채움 (평면 조회 + 진료과목/전문의 배치 조회)
+     */
+    public List<HospitalWebResponse> findByCodes(List<String> codes, int timeoutSeconds) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+
+        HospitalRowMapper rowMapper = new HospitalRowMapper();
+        Map<String, HospitalWebResponse> found = new HashMap<>();
+        FixedInList.query(jdbcTemplate, "SELECT " + HOSPITAL_COLUMNS + HOSPITAL_FROM + "WHERE h.hospital_code IN ",
+            codes, timeoutSeconds, rs -> { found.put(rs.getString("hospital_code"), rowMapper.mapRow(rs, 0)); });
+
+        List<HospitalWebResponse> hospitals = new ArrayList<>(found.size());
+        for (String code : codes) {
+            HospitalWebResponse hospital = found.get(code);
+            if (hospital != null) {
+                hospitals.add(hospital);
+            }
+        }
+
+        if (!hospitals.isEmpty()) {
+            loadMedicalSubjects(hospitals, timeoutSeconds);
+            loadProDocs(hospitals, timeoutSeconds);
+        }
+        return hospitals;
+    }
+
+    private List<Object> mbrParams(double minLon, double maxLon, double minLat, double maxLat) {
+        return List.of(minLon, minLat, maxLon, minLat, maxLon, maxLat, minLon, maxLat, minLon, minLat);
+    }
+
+    private void loadMedicalSubjects(List<HospitalWebResponse> hospitals, int timeoutSeconds) {
         List<String> codes = hospitals.stream().map(HospitalWebResponse::getHospitalCode).toList();
-        String placeholders = String.join(",", Collections.nCopies(codes.size(), "?"));
-        
+
         Map<String, List<String>> map = new HashMap<>();
-        jdbcTemplate.query(
-            "SELECT hospital_code, subjects FROM medical_subject WHERE hospital_code IN (" + placeholders + ")",
-            rs -> {
-                String code = rs.getString(1);
-                String subjects = rs.getString(2);
-                if (subjects != null) {
-                    map.computeIfAbsent(code, k -> new ArrayList<>())
-                       .addAll(Arrays.asList(subjects.split(",")));
-                }
-            },
-            codes.toArray()
-        );
-        
+        FixedInList.query(jdbcTemplate, "SELECT hospital_code, subjects FROM medical_subject WHERE hospital_code IN ",
+            codes, timeoutSeconds, rs -> { collectMedicalSubject(rs, map); });
+
         hospitals.forEach(h -> h.setMedicalSubjects(map.getOrDefault(h.getHospitalCode(), List.of())));
     }
     
-    private void loadProDocs(List<HospitalWebResponse> hospitals) {
+    private void loadProDocs(List<HospitalWebResponse> hospitals, int timeoutSeconds) {
         List<String> codes = hospitals.stream().map(HospitalWebResponse::getHospitalCode).toList();
-        String placeholders = String.join(",", Collections.nCopies(codes.size(), "?"));
-        
+
         Map<String, Map<String, Integer>> map = new HashMap<>();
-        jdbcTemplate.query(
-            "SELECT hospital_code, subject_name, pro_doc_count FROM pro_doc WHERE hospital_code IN (" + placeholders + ")",
-            rs -> {
-                String code = rs.getString(1);
-                String subject = rs.getString(2);
-                Integer count = rs.getInt(3);
-                map.computeIfAbsent(code, k -> new HashMap<>()).merge(subject, count, Integer::sum);
-            },
-            codes.toArray()
-        );
-        
+        FixedInList.query(jdbcTemplate, "SELECT hospital_code, subject_name, pro_doc_count FROM pro_doc WHERE hospital_code IN ",
+            codes, timeoutSeconds, rs -> { collectProDoc(rs, map); });
+
         hospitals.forEach(h -> h.setProfessionalDoctors(map.getOrDefault(h.getHospitalCode(), Map.of())));
     }
+
+    private void collectMedicalSubject(ResultSet rs, Map<String, List<String>> map) throws SQLException {
+        String code = rs.getString(1);
+        String subjects = rs.getString(2);
+        if (subjects != null) {
+            map.computeIfAbsent(code, k -> new ArrayList<>())
+               .addAll(Arrays.asList(subjects.split(",")));
+        }
+    }
+
+    private void collectProDoc(ResultSet rs, Map<String, Map<String, Integer>> map) throws SQLException {
+        String code = rs.getString(1);
+        String subject = rs.getString(2);
+        Integer count = rs.getInt(3);
+        map.computeIfAbsent(code, k -> new HashMap<>()).merge(subject, count, Integer::sum);
+    }
 }
\ No newline at end of file
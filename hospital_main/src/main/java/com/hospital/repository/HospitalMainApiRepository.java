@@ -28,12 +28,6 @@ public interface HospitalMainApiRepository extends JpaRepository<HospitalMain, S
 	Optional<HospitalMain> findByHospitalCode(String hospitalCode);
 
 
-	@QueryHints({ @QueryHint(name = "org.hibernate.readOnly", value = "true") })
-	@EntityGraph("hospital-with-all")
-	@Query("SELECT DISTINCT h FROM HospitalMain h " + "WHERE LENGTH(REPLACE(:searchName, ' ', '')) >= 3 "
-			+ "AND REPLACE(h.hospitalName, ' ', '')" + "LIKE CONCAT('%', replace(:searchName, ' ', ''), '%')")
-	List<HospitalMain> findHospitalsByName(@Param("searchName") String searchName);
-
 	@QueryHints({ @QueryHint(name = "org.hibernate.readOnly", value = "true") })
 	@EntityGraph("hospital-with-all")
 	@Query("SELECT h FROM HospitalMain h")
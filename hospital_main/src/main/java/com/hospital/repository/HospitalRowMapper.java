@@ -2,16 +2,23 @@ package com.hospital.repository;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.DayOfWeek;
 import java.util.*;
 
 import org.springframework.jdbc.core.RowMapper;
 
 import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.WeeklySchedule;
+import com.hospital.util.CurrentTimeUtils;
 
 public class HospitalRowMapper implements RowMapper<HospitalWebResponse> {
 
 	@Override
 	public HospitalWebResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+		// 운영시간은 여기서 한 번만 파싱
+		WeeklySchedule schedule = createWeeklySchedule(rs);
+		DayOfWeek today = CurrentTimeUtils.getCurrentDayOfWeek();
+
 		return HospitalWebResponse.builder().hospitalCode(rs.getString("hospital_code"))
 				.hospitalName(rs.getString("hospital_name")).hospitalAddress(rs.getString("hospital_address"))
 				.hospitalTel(rs.getString("hospital_tel")).totalDoctors(parseInteger(rs.getString("doctor_num")))
@@ -22,38 +29,24 @@ public class HospitalRowMapper implements RowMapper<HospitalWebResponse> {
 				.parkingFee("Y".equalsIgnoreCase(rs.getString("park_xpns_yn"))).noTrmtHoli(rs.getString("noTrmtHoli"))
 				.noTrmtSun(rs.getString("noTrmtSun"))
 
-				// 오늘 운영시간 (임시로 월요일 사용)
-				.todayOpen(formatTime(rs.getString("mon_open"))).todayClose(formatTime(rs.getString("mon_end")))
+				// 오늘 운영시간
+				.todayOpen(schedule.formattedOpen(today)).todayClose(schedule.formattedClose(today))
 
 				// 주간 스케줄
-				.weeklySchedule(createWeeklySchedule(rs)).medicalSubjects(new ArrayList<>())
+				.weeklySchedule(schedule).medicalSubjects(new ArrayList<>())
 				.professionalDoctors(new HashMap<>()).build();
 	}
 
-	private Map<String, Map<String, String>> createWeeklySchedule(ResultSet rs) throws SQLException {
-		Map<String, Map<String, String>> schedule = new LinkedHashMap<>();
-		schedule.put("월요일", daySchedule(rs, "mon_open", "mon_end"));
-		schedule.put("화요일", daySchedule(rs, "tues_open", "tues_end"));
-		schedule.put("수요일", daySchedule(rs, "wed_open", "wed_end"));
-		schedule.put("목요일", daySchedule(rs, "thurs_open", "thurs_end"));
-		schedule.put("금요일", daySchedule(rs, "fri_open", "fri_end"));
-		schedule.put("토요일", daySchedule(rs, "trmt_sat_start", "trmt_sat_end"));
-		schedule.put("일요일", daySchedule(rs, "trmt_sun_start", "trmt_sun_end"));
-		return schedule;
-	}
-
-	private Map<String, String> daySchedule(ResultSet rs, String start, String end) throws SQLException {
-		Map<String, String> day = new LinkedHashMap<>();
-		day.put("open", formatTime(rs.getString(start)));
-		day.put("close", formatTime(rs.getString(end)));
-		return day;
-	}
-
-	private String formatTime(String time) {
-		if (time != null && time.length() == 4 && time.matches("\\d{4}")) {
-			return time.substring(0, 2) + ":" + time.substring(2, 4);
-		}
-		return "";
+	private WeeklySchedule createWeeklySchedule(ResultSet rs) throws SQLException {
+		return WeeklySchedule.builder().zeroAsClosed()
+				.day(DayOfWeek.MONDAY, rs.getString("mon_open"), rs.getString("mon_end"))
+				.day(DayOfWeek.TUESDAY, rs.getString("tues_open"), rs.getString("tues_end"))
+				.day(DayOfWeek.WEDNESDAY, rs.getString("wed_open"), rs.getString("wed_end"))
+				.day(DayOfWeek.THURSDAY, rs.getString("thurs_open"), rs.getString("thurs_end"))
+				.day(DayOfWeek.FRIDAY, rs.getString("fri_open"), rs.getString("fri_end"))
+				.day(DayOfWeek.SATURDAY, rs.getString("trmt_sat_start"), rs.getString("trmt_sat_end"))
+				.day(DayOfWeek.SUNDAY, rs.getString("trmt_sun_start"), rs.getString("trmt_sun_end"))
+				.build();
 	}
 
 	private Integer parseInteger(String value) {
@@ -5,14 +5,10 @@ import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
-import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.hospital.entity.Pharmacy;
 
-import jakarta.persistence.QueryHint;
-
 public interface PharmacyApiRepository extends JpaRepository<Pharmacy, Long> {
 	boolean existsByYkiho(String ykiho);
 
@@ -34,28 +30,4 @@ public interface PharmacyApiRepository extends JpaRepository<Pharmacy, Long> {
 	@Transactional
 	@Modifying
 	void deleteByYkihoIn(List<String> ykihoList);
-
-	@QueryHints({ @QueryHint(name = "org.hibernate.readOnly", value = "true") })
-	@Query("SELECT DISTINCT p FROM Pharmacy p " +
-	       "WHERE LENGTH(REPLACE(:searchName, ' ', '')) >= 3 " +
-	       "AND REPLACE(p.name, ' ', '') " +
-	       "LIKE CONCAT('%', REPLACE(:searchName, ' ', ''), '%')")
-	List<Pharmacy> findPharmacyByName(@Param("searchName") String searchName);
-	
-	 @Query(value = """
-		        SELECT p.*
-		        FROM pharmacy p
-		        WHERE p.longitude BETWEEN :minLon AND :maxLon
-		          AND p.latitude  BETWEEN :minLat AND :maxLat
-		          AND ST_Distance_Sphere(POINT(p.longitude, p.latitude), POINT(:lon, :lat)) <= :radius
-		        """, nativeQuery = true)
-		    List<Pharmacy> findPharmaciesWithinBoundingBox(
-		            @Param("lat") double lat,
-		            @Param("lon") double lon,
-		            @Param("radius") double radius,
-		            @Param("minLat") double minLat,
-		            @Param("maxLat") double maxLat,
-		            @Param("minLon") double minLon,
-		            @Param("maxLon") double maxLon
-		    );
 }
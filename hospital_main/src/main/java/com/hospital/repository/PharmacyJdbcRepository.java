@@ -0,0 +1,137 @@
+package com.hospital.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.hospital.dto.NameMatch;
+import com.hospital.dto.PharmacyWebResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 약국 위치 검색용 JDBC 조회 (엔티티/영속성 컨텍스트 없이 웹 응답에 필요한 컬럼만 조회)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PharmacyJdbcRepository {
+
+    private static final String PHARMACY_COLUMNS = """
+                p.ykiho, p.pharmacy_name, p.address, p.phone, p.fax, p.etc, p.map_info,
+                p.latitude, p.longitude,
+                p.mon_open, p.mon_close, p.tue_open, p.tue_close,
+                p.wed_open, p.wed_close, p.thu_open, p.thu_close,
+                p.fri_open, p.fri_close, p.sat_open, p.sat_close,
+                p.sun_open, p.sun_close, p.holiday_open, p.holiday_close
+            """;
+
+    // 공간 인덱스(location)를 타는 MBR 조건 - 파라미터: 사각형 꼭짓점 5개 (lon, lat)
+    private static final String FIND_IN_BOX_SQL = "SELECT " + PHARMACY_COLUMNS + """
+            FROM pharmacy p
+            WHERE MBRContains(
+                ST_GeomFromText(
+                    CONCAT('POLYGON((', ?, ' ', ?, ',', ?, ' ', ?, ',',
+                                        ?, ' ', ?, ',', ?, ' ', ?, ',', ?, ' ', ?, '))'),
+                    4326
+                ),
+                p.location
+            )
+            """;
+
+    private static final String FIND_ALL_SQL = "SELECT " + PHARMACY_COLUMNS + "FROM pharmacy p";
+
+    private static final String NAME_MATCH_SQL = """
+            SELECT p.ykiho, p.pharmacy_name
+            FROM pharmacy p
+            WHERE REPLACE(p.pharmacy_name, ' ', '') LIKE CONCAT('%', ?, '%')
+            ORDER BY CASE WHEN REPLACE(p.pharmacy_name, ' ', '') = ? THEN 0
+                          WHEN REPLACE(p.pharmacy_name, ' ', '') LIKE CONCAT(?, '%') THEN 1
+                          ELSE 2 END,
+                     LOCATE(?, REPLACE(p.pharmacy_name, ' ', '')),
+                     CHAR_LENGTH(p.pharmacy_name),
+                     p.ykiho
+            LIMIT ?
+            """;
+
+    private static final String NAME_MATCH_NEAR_SQL = """
+            SELECT p.ykiho, p.pharmacy_name,
+                   CASE WHEN p.latitude IS NULL OR p.longitude IS NULL THEN ?
+                        ELSE ST_Distance_Sphere(
+                            p.location, ST_GeomFromText(CONCAT('POINT(', ?, ' ', ?, ')'), 4326)
+                        ) / 1000 END AS distance
+            FROM pharmacy p
+            WHERE REPLACE(p.pharmacy_name, ' ', '') LIKE CONCAT('%', ?, '%')
+            ORDER BY distance + ? * CASE WHEN REPLACE(p.pharmacy_name, ' ', '') = ? THEN 0
+                                         WHEN REPLACE(p.pharmacy_name, ' ', '') LIKE CONCAT(?, '%') THEN 1
+                                         ELSE 2 END,
+                     p.ykiho
+            LIMIT ?
+            """;
+
+    private static final PharmacyRowMapper ROW_MAPPER = new PharmacyRowMapper();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사각형 범위 안의 약국 (거리 필터 없음, 타일 캐시 적재용)
+     */
+    public List<PharmacyWebResponse> findInBox(double minLat, double maxLat, double minLon, double maxLon) {
+        return jdbcTemplate.query(FIND_IN_BOX_SQL, ROW_MAPPER,
+            minLon, minLat, maxLon, minLat, maxLon, maxLat, minLon, maxLat, minLon, minLat);
+    }
+
+    /**
+     * 이름 검색 1단계 - 일치하는 약국코드/이름만 순위순으로 조회 (HospitalJdbcRepository.findNameMatches와 같은 순위)
+     * @param normalizedName 공백을 제거한 검색어
+     * @param timeoutSeconds 쿼리 타임아웃 (초, 호출 측 응답 기한에 맞춤)
+     */
+    public List<NameMatch> findNameMatches(String normalizedName, int limit, int timeoutSeconds) {
+        return jdbcTemplate.query(QueryTimeout.statement(NAME_MATCH_SQL, timeoutSeconds,
+                normalizedName, normalizedName, normalizedName, normalizedName, limit),
+            (rs, rowNum) -> new NameMatch(rs.getString(1), rs.getString(2), null));
+    }
+
+    /**
+     * 위치 기준 이름 검색 1단계 - (거리 km + 일치 등급 x rankWeightKm)이 작은 순으로 limit개
+     * @param unknownDistanceKm 좌표가 없는 약국에 쓸 거리 (location은 POINT(0 0)이므로 위경도 컬럼으로 판단)
+     */
+    public List<NameMatch> findNameMatchesNear(String normalizedName, double userLat, double userLng,
+            double rankWeightKm, double unknownDistanceKm, int limit, int timeoutSeconds) {
+        return jdbcTemplate.query(QueryTimeout.statement(NAME_MATCH_NEAR_SQL, timeoutSeconds,
+                unknownDistanceKm, userLng, userLat, normalizedName, rankWeightKm, normalizedName, normalizedName, limit),
+            (rs, rowNum) -> new NameMatch(rs.getString(1), rs.getString(2), rs.getDouble(3)));
+    }
+
+    /**
+     * 이름 검색 2단계 - 약국코드 목록(한 페이지 분량)을 같은 순서로 채움 (고정 크기 IN 목록)
+     */
+    public List<PharmacyWebResponse> findByCodes(List<String> codes, int timeoutSeconds) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, PharmacyWebResponse> found = new HashMap<>();
+        FixedInList.query(jdbcTemplate, "SELECT " + PHARMACY_COLUMNS + "FROM pharmacy p WHERE p.ykiho IN ",
+            codes, timeoutSeconds, rs -> { found.put(rs.getString("ykiho"), ROW_MAPPER.mapRow(rs, 0)); });
+
+        List<PharmacyWebResponse> pharmacies = new ArrayList<>(found.size());
+        for (String code : codes) {
+            PharmacyWebResponse pharmacy = found.get(code);
+            if (pharmacy != null) {
+                pharmacies.add(pharmacy);
+            }
+        }
+        return pharmacies;
+    }
+
+    /**
+     * 전체 약국 (이름 검색 색인 생성용)
+     */
+    public List<PharmacyWebResponse> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, ROW_MAPPER);
+    }
+}
@@ -0,0 +1,43 @@
+package com.hospital.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import com.hospital.dto.PharmacyWebResponse;
+import com.hospital.dto.WeeklySchedule;
+
+/**
+ * 약국 조회 결과 -> PharmacyWebResponse
+ * - 요일과 무관한 값만 채움 (todayOpen/todayClose는 요청 시점에 PharmacyWebService가 설정)
+ */
+public class PharmacyRowMapper implements RowMapper<PharmacyWebResponse> {
+
+	@Override
+	public PharmacyWebResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+		return PharmacyWebResponse.builder().pharmacyCode(rs.getString("ykiho"))
+				.pharmacyName(rs.getString("pharmacy_name")).pharmacyAddress(rs.getString("address"))
+				.pharmacyTel(rs.getString("phone")).pharmacyFax(rs.getString("fax"))
+				.pharmacyEtc(rs.getString("etc")).pharmacyMapInfo(rs.getString("map_info"))
+				.coordinateX(rs.getObject("longitude", Double.class))
+				.coordinateY(rs.getObject("latitude", Double.class))
+
+				// 주간 스케줄 (운영시간은 여기서 한 번만 파싱)
+				.weeklySchedule(createWeeklySchedule(rs)).build();
+	}
+
+	private WeeklySchedule createWeeklySchedule(ResultSet rs) throws SQLException {
+		return WeeklySchedule.builder()
+				.day(DayOfWeek.MONDAY, rs.getString("mon_open"), rs.getString("mon_close"))
+				.day(DayOfWeek.TUESDAY, rs.getString("tue_open"), rs.getString("tue_close"))
+				.day(DayOfWeek.WEDNESDAY, rs.getString("wed_open"), rs.getString("wed_close"))
+				.day(DayOfWeek.THURSDAY, rs.getString("thu_open"), rs.getString("thu_close"))
+				.day(DayOfWeek.FRIDAY, rs.getString("fri_open"), rs.getString("fri_close"))
+				.day(DayOfWeek.SATURDAY, rs.getString("sat_open"), rs.getString("sat_close"))
+				.day(DayOfWeek.SUNDAY, rs.getString("sun_open"), rs.getString("sun_close"))
+				.holiday(rs.getString("holiday_open"), rs.getString("holiday_close"))
+				.build();
+	}
+}
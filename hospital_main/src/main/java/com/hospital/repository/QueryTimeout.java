@@ -0,0 +1,29 @@
+package com.hospital.repository;
+
+import java.sql.PreparedStatement;
+
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+/**
+ * 쿼리 타임아웃(초)을 문장에 직접 지정 (HospitalJdbcRepository, PharmacyJdbcRepository 공용)
+ * - 응답 기한이 지난 문장을 DB에서도 중단해 커넥션을 돌려받도록
+ * - 주입된 JdbcTemplate으로 실행하므로 템플릿 설정은 그대로 유지
+ */
+final class QueryTimeout {
+
+    // 타임아웃 없음 (Statement.setQueryTimeout(0))
+    static final int NONE = 0;
+
+    private QueryTimeout() {
+    }
+
+    static PreparedStatementCreator statement(String sql, int timeoutSeconds, Object... args) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setQueryTimeout(timeoutSeconds);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            return ps;
+        };
+    }
+}
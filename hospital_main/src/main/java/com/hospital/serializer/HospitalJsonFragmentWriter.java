@@ -0,0 +1,186 @@
+package com.hospital.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hospital.dto.HospitalSearchResult;
+import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.WeeklySchedule;
+import com.hospital.util.CurrentTimeUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병원 검색 응답 JSON 작성기
+ * - 병원별 정적 필드는 UTF-8 JSON 조각으로 캐시 (키: 스냅샷 버전 + 요일 + 병원코드)
+ * - 요청마다 바뀌는 distance, timestamp만 직접 써서 조각 뒤에 붙임
+ * - 병원 데이터는 하루 한 번 바뀌므로 같은 병원은 버전이 바뀔 때까지 다시 직렬화하지 않음
+ */
+@Slf4j
+@Component
+public class HospitalJsonFragmentWriter {
+
+	// 조각 캐시 최대 크기 (바이트)
+	private static final long MAX_CACHE_BYTES = 64L * 1024 * 1024;
+
+	private static final byte[] EMPTY_ARRAY = "[]".getBytes(StandardCharsets.UTF_8);
+
+	private final ObjectMapper objectMapper;
+	private final ObjectMapper fragmentMapper;
+	private final Cache<String, byte[]> fragments;
+
+	private volatile long cachedVersion;
+
+	@Autowired
+	public HospitalJsonFragmentWriter(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+		this.fragmentMapper = objectMapper.copy().addMixIn(HospitalWebResponse.class, StaticFieldsMixin.class);
+		this.fragments = Caffeine.newBuilder()
+				.maximumWeight(MAX_CACHE_BYTES)
+				.weigher((String key, byte[] value) -> value.length)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * 검색 결과를 JSON 배열로 출력
+	 */
+	public void writeArray(OutputStream out, HospitalSearchResult result) throws IOException {
+		List<HospitalWebResponse> hospitals = result.getHospitals();
+		if (hospitals.isEmpty()) {
+			out.write(EMPTY_ARRAY);
+			return;
+		}
+
+		// 같은 응답의 timestamp는 모두 같으므로 첫 병원 값 사용
+		ArrayWriter writer = openArray(out, hospitals.get(0).getTimestamp());
+		for (HospitalWebResponse hospital : hospitals) {
+			writer.write(hospital, hospital.getDistance(), result.getSnapshotVersion());
+		}
+		writer.close();
+	}
+
+	/**
+	 * 스트리밍용 배열 작성기 - 원소를 하나씩 바로 출력
+	 */
+	public ArrayWriter openArray(OutputStream out, String timestamp) throws IOException {
+		byte[] timestampJson = timestamp == null ? null : objectMapper.writeValueAsBytes(timestamp);
+		out.write('[');
+		return new ArrayWriter(out, timestampJson, CurrentTimeUtils.getCurrentDayOfWeek());
+	}
+
+	public final class ArrayWriter {
+
+		// 이 개수마다 출력 스트림을 flush
+		private static final int FLUSH_INTERVAL = 200;
+
+		private final OutputStream out;
+		private final byte[] timestampJson;
+		private final DayOfWeek today;
+		private int count;
+
+		private ArrayWriter(OutputStream out, byte[] timestampJson, DayOfWeek today) {
+			this.out = out;
+			this.timestampJson = timestampJson;
+			this.today = today;
+		}
+
+		/**
+		 * 병원 하나 출력 (hospital은 읽기만 하므로 스냅샷 객체를 그대로 넘겨도 됨)
+		 */
+		public void write(HospitalWebResponse hospital, Double distance, long version) throws IOException {
+			evictIfVersionChanged(version);
+			if (count > 0) {
+				out.write(',');
+			}
+			writeObject(out, fragmentOf(hospital, version, today), distance, timestampJson);
+			count++;
+			if (count % FLUSH_INTERVAL == 0) {
+				out.flush();
+			}
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void close() throws IOException {
+			out.write(']');
+			out.flush();
+		}
+	}
+
+	// 캐시된 조각("{...}")에서 닫는 괄호를 빼고 요청별 필드를 이어 씀
+	private void writeObject(OutputStream out, byte[] fragment, Double distance, byte[] timestampJson)
+			throws IOException {
+
+		boolean empty = fragment.length <= 2;
+		out.write(fragment, 0, fragment.length - 1);
+
+		if (distance != null) {
+			out.write((empty ? "\"distance\":" : ",\"distance\":").getBytes(StandardCharsets.UTF_8));
+			out.write(Double.toString(distance).getBytes(StandardCharsets.UTF_8));
+			empty = false;
+		}
+
+		out.write((empty ? "\"timestamp\":" : ",\"timestamp\":").getBytes(StandardCharsets.UTF_8));
+		out.write(timestampJson == null ? "null".getBytes(StandardCharsets.UTF_8) : timestampJson);
+		out.write('}');
+	}
+
+	private byte[] fragmentOf(HospitalWebResponse hospital, long version, DayOfWeek today) throws IOException {
+		// DB 직접 조회 결과는 버전이 없으므로 캐시하지 않음
+		if (version == 0L || hospital.getHospitalCode() == null) {
+			return fragmentMapper.writeValueAsBytes(hospital);
+		}
+
+		// todayOpen/todayClose는 요일에 따라 바뀌므로 요일별로 따로 캐시
+		String key = version + ":" + today.getValue() + ":" + hospital.getHospitalCode();
+		byte[] fragment = fragments.getIfPresent(key);
+		if (fragment == null) {
+			fragment = fragmentMapper.writeValueAsBytes(withToday(hospital, today));
+			fragments.put(key, fragment);
+		}
+		return fragment;
+	}
+
+	// 스냅샷 객체의 오늘 운영시간은 생성 시점 기준이므로 요청 요일 값으로 다시 채움
+	private HospitalWebResponse withToday(HospitalWebResponse hospital, DayOfWeek today) {
+		WeeklySchedule schedule = hospital.getWeeklySchedule();
+		if (schedule == null) {
+			return hospital;
+		}
+		return hospital.toBuilder()
+				.todayOpen(schedule.formattedOpen(today))
+				.todayClose(schedule.formattedClose(today))
+				.build();
+	}
+
+	// 스냅샷이 새로 만들어지면 이전 버전 조각은 더 이상 쓰이지 않으므로 비움
+	private void evictIfVersionChanged(long version) {
+		if (version > cachedVersion) {
+			synchronized (this) {
+				if (version > cachedVersion) {
+					fragments.invalidateAll();
+					cachedVersion = version;
+					log.info("병원 JSON 조각 캐시 초기화 (스냅샷 version {})", version);
+				}
+			}
+		}
+	}
+
+	// 조각에는 정적 필드만 포함 (요청별 필드는 writeObject에서 직접 작성)
+	@JsonSerialize(using = HospitalWebResponseSerializer.StaticFields.class)
+	private abstract static class StaticFieldsMixin {
+	}
+}
@@ -0,0 +1,97 @@
+package com.hospital.serializer;
+
+import static com.hospital.serializer.JsonFieldWriter.name;
+import static com.hospital.serializer.JsonFieldWriter.writeBoolean;
+import static com.hospital.serializer.JsonFieldWriter.writeCounts;
+import static com.hospital.serializer.JsonFieldWriter.writeNumber;
+import static com.hospital.serializer.JsonFieldWriter.writeString;
+import static com.hospital.serializer.JsonFieldWriter.writeStrings;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.hospital.dto.HospitalWebResponse;
+
+/**
+ * HospitalWebResponse 직렬화 (필드 순서는 기존과 동일, null 필드는 생략)
+ */
+public class HospitalWebResponseSerializer extends StdSerializer<HospitalWebResponse> {
+
+    private static final SerializableString HOSPITAL_CODE = name("hospitalCode");
+    private static final SerializableString HOSPITAL_NAME = name("hospitalName");
+    private static final SerializableString HOSPITAL_ADDRESS = name("hospitalAddress");
+    private static final SerializableString HOSPITAL_TEL = name("hospitalTel");
+    private static final SerializableString TOTAL_DOCTORS = name("totalDoctors");
+    private static final SerializableString COORDINATE_X = name("coordinateX");
+    private static final SerializableString COORDINATE_Y = name("coordinateY");
+    private static final SerializableString WEEKDAY_LUNCH = name("weekdayLunch");
+    private static final SerializableString PARKING_CAPACITY = name("parkingCapacity");
+    private static final SerializableString PARKING_FEE = name("parkingFee");
+    private static final SerializableString TODAY_OPEN = name("todayOpen");
+    private static final SerializableString TODAY_CLOSE = name("todayClose");
+    private static final SerializableString NO_TRMT_HOLI = name("noTrmtHoli");
+    private static final SerializableString NO_TRMT_SUN = name("noTrmtSun");
+    private static final SerializableString WEEKLY_SCHEDULE = name("weeklySchedule");
+    private static final SerializableString MEDICAL_SUBJECTS = name("medicalSubjects");
+    private static final SerializableString PROFESSIONAL_DOCTORS = name("professionalDoctors");
+    private static final SerializableString DISTANCE = name("distance");
+    private static final SerializableString TIMESTAMP = name("timestamp");
+
+    // false면 요청마다 바뀌는 distance, timestamp를 제외 (HospitalJsonFragmentWriter 조각용)
+    private final boolean includeRequestFields;
+
+    public HospitalWebResponseSerializer() {
+        this(true);
+    }
+
+    protected HospitalWebResponseSerializer(boolean includeRequestFields) {
+        super(HospitalWebResponse.class);
+        this.includeRequestFields = includeRequestFields;
+    }
+
+    @Override
+    public void serialize(HospitalWebResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+
+        writeString(gen, HOSPITAL_CODE, value.getHospitalCode());
+        writeString(gen, HOSPITAL_NAME, value.getHospitalName());
+        writeString(gen, HOSPITAL_ADDRESS, value.getHospitalAddress());
+        writeString(gen, HOSPITAL_TEL, value.getHospitalTel());
+        writeNumber(gen, TOTAL_DOCTORS, value.getTotalDoctors());
+        writeNumber(gen, COORDINATE_X, value.getCoordinateX());
+        writeNumber(gen, COORDINATE_Y, value.getCoordinateY());
+        writeString(gen, WEEKDAY_LUNCH, value.getWeekdayLunch());
+        writeNumber(gen, PARKING_CAPACITY, value.getParkingCapacity());
+        writeBoolean(gen, PARKING_FEE, value.getParkingFee());
+        writeString(gen, TODAY_OPEN, value.getTodayOpen());
+        writeString(gen, TODAY_CLOSE, value.getTodayClose());
+        writeString(gen, NO_TRMT_HOLI, value.getNoTrmtHoli());
+        writeString(gen, NO_TRMT_SUN, value.getNoTrmtSun());
+        if (value.getWeeklySchedule() != null) {
+            gen.writeFieldName(WEEKLY_SCHEDULE);
+            WeeklyScheduleSerializer.write(value.getWeeklySchedule(), gen);
+        }
+        writeStrings(gen, MEDICAL_SUBJECTS, value.getMedicalSubjects());
+        writeCounts(gen, PROFESSIONAL_DOCTORS, value.getProfessionalDoctors());
+
+        if (includeRequestFields) {
+            writeNumber(gen, DISTANCE, value.getDistance());
+            writeString(gen, TIMESTAMP, value.getTimestamp());
+        }
+
+        gen.writeEndObject();
+    }
+
+    /**
+     * 정적 필드만 출력하는 직렬화기 (요청별 필드는 HospitalJsonFragmentWriter가 직접 작성)
+     */
+    public static class StaticFields extends HospitalWebResponseSerializer {
+
+        public StaticFields() {
+            super(false);
+        }
+    }
+}
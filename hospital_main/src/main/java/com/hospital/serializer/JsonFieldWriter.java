@@ -0,0 +1,82 @@
+package com.hospital.serializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * 직접 작성하는 직렬화기용 필드 출력 도우미
+ * - 필드 이름은 미리 인코딩한 SerializedString 사용
+ * - 값이 null이면 필드 자체를 생략하고, 숫자/불리언은 타입별 write 메서드로 바로 출력
+ *   (writeObjectField의 값별 직렬화기 탐색을 거치지 않음)
+ */
+final class JsonFieldWriter {
+
+    private JsonFieldWriter() {
+    }
+
+    static SerializableString name(String fieldName) {
+        return new SerializedString(fieldName);
+    }
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        }
+    }
+
+    static void writeNumber(JsonGenerator gen, SerializableString name, Integer value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    static void writeNumber(JsonGenerator gen, SerializableString name, Double value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeNumber(value.doubleValue());
+        }
+    }
+
+    static void writeBoolean(JsonGenerator gen, SerializableString name, Boolean value) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeBoolean(value.booleanValue());
+        }
+    }
+
+    static void writeStrings(JsonGenerator gen, SerializableString name, List<String> values) throws IOException {
+        if (values == null) {
+            return;
+        }
+        gen.writeFieldName(name);
+        gen.writeStartArray();
+        for (int i = 0; i < values.size(); i++) {
+            gen.writeString(values.get(i));
+        }
+        gen.writeEndArray();
+    }
+
+    static void writeCounts(JsonGenerator gen, SerializableString name, Map<String, Integer> counts) throws IOException {
+        if (counts == null) {
+            return;
+        }
+        gen.writeFieldName(name);
+        gen.writeStartObject();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            gen.writeFieldName(String.valueOf(entry.getKey()));
+            if (entry.getValue() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(entry.getValue().intValue());
+            }
+        }
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,61 @@
+package com.hospital.serializer;
+
+import static com.hospital.serializer.JsonFieldWriter.name;
+import static com.hospital.serializer.JsonFieldWriter.writeNumber;
+import static com.hospital.serializer.JsonFieldWriter.writeString;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.hospital.dto.PharmacyWebResponse;
+
+/**
+ * PharmacyWebResponse 직렬화 (필드 순서는 기존과 동일, null 필드는 생략)
+ */
+public class PharmacyWebResponseSerializer extends StdSerializer<PharmacyWebResponse> {
+
+    private static final SerializableString PHARMACY_CODE = name("pharmacyCode");
+    private static final SerializableString PHARMACY_NAME = name("pharmacyName");
+    private static final SerializableString PHARMACY_ADDRESS = name("pharmacyAddress");
+    private static final SerializableString PHARMACY_TEL = name("pharmacyTel");
+    private static final SerializableString PHARMACY_FAX = name("pharmacyFax");
+    private static final SerializableString PHARMACY_ETC = name("pharmacyEtc");
+    private static final SerializableString PHARMACY_MAP_INFO = name("pharmacyMapInfo");
+    private static final SerializableString COORDINATE_X = name("coordinateX");
+    private static final SerializableString COORDINATE_Y = name("coordinateY");
+    private static final SerializableString TODAY_OPEN = name("todayOpen");
+    private static final SerializableString TODAY_CLOSE = name("todayClose");
+    private static final SerializableString WEEKLY_SCHEDULE = name("weeklySchedule");
+    private static final SerializableString DISTANCE = name("distance");
+
+    public PharmacyWebResponseSerializer() {
+        super(PharmacyWebResponse.class);
+    }
+
+    @Override
+    public void serialize(PharmacyWebResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+
+        writeString(gen, PHARMACY_CODE, value.getPharmacyCode());
+        writeString(gen, PHARMACY_NAME, value.getPharmacyName());
+        writeString(gen, PHARMACY_ADDRESS, value.getPharmacyAddress());
+        writeString(gen, PHARMACY_TEL, value.getPharmacyTel());
+        writeString(gen, PHARMACY_FAX, value.getPharmacyFax());
+        writeString(gen, PHARMACY_ETC, value.getPharmacyEtc());
+        writeString(gen, PHARMACY_MAP_INFO, value.getPharmacyMapInfo());
+        writeNumber(gen, COORDINATE_X, value.getCoordinateX());
+        writeNumber(gen, COORDINATE_Y, value.getCoordinateY());
+        writeString(gen, TODAY_OPEN, value.getTodayOpen());
+        writeString(gen, TODAY_CLOSE, value.getTodayClose());
+        if (value.getWeeklySchedule() != null) {
+            gen.writeFieldName(WEEKLY_SCHEDULE);
+            WeeklyScheduleSerializer.write(value.getWeeklySchedule(), gen);
+        }
+        writeNumber(gen, DISTANCE, value.getDistance());
+
+        gen.writeEndObject();
+    }
+}
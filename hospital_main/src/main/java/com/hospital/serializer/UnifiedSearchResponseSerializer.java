@@ -1,14 +1,55 @@
 package com.hospital.serializer;
 
+import static com.hospital.serializer.JsonFieldWriter.name;
+import static com.hospital.serializer.JsonFieldWriter.writeBoolean;
+import static com.hospital.serializer.JsonFieldWriter.writeCounts;
+import static com.hospital.serializer.JsonFieldWriter.writeNumber;
+import static com.hospital.serializer.JsonFieldWriter.writeString;
+import static com.hospital.serializer.JsonFieldWriter.writeStrings;
+
 import java.io.IOException;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.hospital.dto.UnifiedSearchResponse;
 
+/**
+ * UnifiedSearchResponse 직렬화 - 병원/약국 유형별 필드만 출력 (null 필드는 생략)
+ */
 public class UnifiedSearchResponseSerializer extends StdSerializer<UnifiedSearchResponse> {
 
+    private static final SerializableString MEDICAL_TYPE = name("medicalType");
+    private static final SerializableString COORDINATE_X = name("coordinateX");
+    private static final SerializableString COORDINATE_Y = name("coordinateY");
+    private static final SerializableString TODAY_OPEN = name("todayOpen");
+    private static final SerializableString TODAY_CLOSE = name("todayClose");
+    private static final SerializableString WEEKLY_SCHEDULE = name("weeklySchedule");
+
+    // 병원 필드
+    private static final SerializableString HOSPITAL_CODE = name("hospitalCode");
+    private static final SerializableString HOSPITAL_NAME = name("hospitalName");
+    private static final SerializableString HOSPITAL_ADDRESS = name("hospitalAddress");
+    private static final SerializableString HOSPITAL_TEL = name("hospitalTel");
+    private static final SerializableString TOTAL_DOCTORS = name("totalDoctors");
+    private static final SerializableString WEEKDAY_LUNCH = name("weekdayLunch");
+    private static final SerializableString PARKING_CAPACITY = name("parkingCapacity");
+    private static final SerializableString PARKING_FEE = name("parkingFee");
+    private static final SerializableString NO_TRMT_HOLI = name("noTrmtHoli");
+    private static final SerializableString NO_TRMT_SUN = name("noTrmtSun");
+    private static final SerializableString MEDICAL_SUBJECTS = name("medicalSubjects");
+    private static final SerializableString PROFESSIONAL_DOCTORS = name("professionalDoctors");
+
+    // 약국 필드
+    private static final SerializableString PHARMACY_CODE = name("pharmacyCode");
+    private static final SerializableString PHARMACY_NAME = name("pharmacyName");
+    private static final SerializableString PHARMACY_ADDRESS = name("pharmacyAddress");
+    private static final SerializableString PHARMACY_TEL = name("pharmacyTel");
+    private static final SerializableString PHARMACY_FAX = name("pharmacyFax");
+    private static final SerializableString PHARMACY_ETC = name("pharmacyEtc");
+    private static final SerializableString PHARMACY_MAP_INFO = name("pharmacyMapInfo");
+
     public UnifiedSearchResponseSerializer() {
         this(null);
     }
@@ -25,48 +66,51 @@ public class UnifiedSearchResponseSerializer extends StdSerializer<UnifiedSearch
 
         if ("HOSPITAL".equals(type)) {
             // 병원 필드만 직렬화
-            writeIfNotNull(gen, "medicalType", value.getMedicalType());
-            writeIfNotNull(gen, "hospitalCode", value.getHospitalCode());
-            writeIfNotNull(gen, "hospitalName", value.getName());
-            writeIfNotNull(gen, "hospitalAddress", value.getAddress());
-            writeIfNotNull(gen, "hospitalTel", value.getTel());
-            writeIfNotNull(gen, "coordinateX", value.getCoordinateX());
-            writeIfNotNull(gen, "coordinateY", value.getCoordinateY());
+            writeString(gen, MEDICAL_TYPE, value.getMedicalType());
+            writeString(gen, HOSPITAL_CODE, value.getHospitalCode());
+            writeString(gen, HOSPITAL_NAME, value.getName());
+            writeString(gen, HOSPITAL_ADDRESS, value.getAddress());
+            writeString(gen, HOSPITAL_TEL, value.getTel());
+            writeNumber(gen, COORDINATE_X, value.getCoordinateX());
+            writeNumber(gen, COORDINATE_Y, value.getCoordinateY());
      
-            writeIfNotNull(gen, "totalDoctors", value.getTotalDoctors());
+            writeNumber(gen, TOTAL_DOCTORS, value.getTotalDoctors());
  
-            writeIfNotNull(gen, "weekdayLunch", value.getWeekdayLunch());
-            writeIfNotNull(gen, "parkingCapacity", value.getParkingCapacity());
-            writeIfNotNull(gen, "parkingFee", value.getParkingFee());
-            writeIfNotNull(gen, "todayOpen", value.getTodayOpen());
-            writeIfNotNull(gen, "todayClose", value.getTodayClose());
-            writeIfNotNull(gen, "weeklySchedule", value.getWeeklySchedule());
-            writeIfNotNull(gen, "noTrmtHoli", value.getNoTrmtHoli());
-            writeIfNotNull(gen, "noTrmtSun", value.getNoTrmtSun());
-            writeIfNotNull(gen, "medicalSubjects", value.getMedicalSubjects());
-            writeIfNotNull(gen, "professionalDoctors", value.getProfessionalDoctors());
+            writeString(gen, WEEKDAY_LUNCH, value.getWeekdayLunch());
+            writeNumber(gen, PARKING_CAPACITY, value.getParkingCapacity());
+            writeBoolean(gen, PARKING_FEE, value.getParkingFee());
+            writeString(gen, TODAY_OPEN, value.getTodayOpen());
+            writeString(gen, TODAY_CLOSE, value.getTodayClose());
+            writeSchedule(gen, value);
+            writeString(gen, NO_TRMT_HOLI, value.getNoTrmtHoli());
+            writeString(gen, NO_TRMT_SUN, value.getNoTrmtSun());
+            writeStrings(gen, MEDICAL_SUBJECTS, value.getMedicalSubjects());
+            writeCounts(gen, PROFESSIONAL_DOCTORS, value.getProfessionalDoctors());
 
         } else if ("PHARMACY".equals(type)) {
             // 약국 필드만 직렬화
-            writeIfNotNull(gen, "medicalType", value.getMedicalType());
-            writeIfNotNull(gen, "pharmacyCode", value.getPharmacyCode());
-            writeIfNotNull(gen, "pharmacyName", value.getName());
-            writeIfNotNull(gen, "pharmacyAddress", value.getAddress());
-            writeIfNotNull(gen, "pharmacyTel", value.getTel());
-            writeIfNotNull(gen, "pharmacyFax", value.getPharmacyFax());
-            writeIfNotNull(gen, "pharmacyEtc", value.getPharmacyEtc());
-            writeIfNotNull(gen, "pharmacyMapInfo", value.getPharmacyMapInfo());
-            writeIfNotNull(gen, "coordinateX", value.getCoordinateX());
-            writeIfNotNull(gen, "coordinateY", value.getCoordinateY());
-            writeIfNotNull(gen, "todayOpen", value.getTodayOpen());
-            writeIfNotNull(gen, "todayClose", value.getTodayClose());
-            writeIfNotNull(gen, "weeklySchedule", value.getWeeklySchedule());
+            writeString(gen, MEDICAL_TYPE, value.getMedicalType());
+            writeString(gen, PHARMACY_CODE, value.getPharmacyCode());
+            writeString(gen, PHARMACY_NAME, value.getName());
+            writeString(gen, PHARMACY_ADDRESS, value.getAddress());
+            writeString(gen, PHARMACY_TEL, value.getTel());
+            writeString(gen, PHARMACY_FAX, value.getPharmacyFax());
+            writeString(gen, PHARMACY_ETC, value.getPharmacyEtc());
+            writeString(gen, PHARMACY_MAP_INFO, value.getPharmacyMapInfo());
+            writeNumber(gen, COORDINATE_X, value.getCoordinateX());
+            writeNumber(gen, COORDINATE_Y, value.getCoordinateY());
+            writeString(gen, TODAY_OPEN, value.getTodayOpen());
+            writeString(gen, TODAY_CLOSE, value.getTodayClose());
+            writeSchedule(gen, value);
         }
 
         gen.writeEndObject();
     }
 
-    private void writeIfNotNull(JsonGenerator gen, String fieldName, Object value) throws IOException {
-        gen.writeObjectField(fieldName, value);
+    private void writeSchedule(JsonGenerator gen, UnifiedSearchResponse value) throws IOException {
+        if (value.getWeeklySchedule() != null) {
+            gen.writeFieldName(WEEKLY_SCHEDULE);
+            WeeklyScheduleSerializer.write(value.getWeeklySchedule(), gen);
+        }
     }
 }
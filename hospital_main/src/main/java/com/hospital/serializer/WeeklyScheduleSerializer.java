@@ -0,0 +1,59 @@
+package com.hospital.serializer;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.hospital.dto.WeeklySchedule;
+
+/**
+ * WeeklySchedule -> 기존 요일별 Map과 같은 JSON 형태로 출력
+ * {"월요일": {"open": "09:00", "close": "18:00"}, ..., "일요일": {...}, ("공휴일": {...})}
+ */
+public class WeeklyScheduleSerializer extends StdSerializer<WeeklySchedule> {
+
+    private static final SerializableString OPEN = new SerializedString("open");
+    private static final SerializableString CLOSE = new SerializedString("close");
+
+    // 요일 인덱스(월=0, 7=공휴일)별 필드 이름
+    private static final SerializableString[] DAY_NAMES = new SerializableString[8];
+
+    static {
+        for (int day = 0; day < DAY_NAMES.length; day++) {
+            DAY_NAMES[day] = new SerializedString(WeeklySchedule.dayName(day));
+        }
+    }
+
+    public WeeklyScheduleSerializer() {
+        this(null);
+    }
+
+    public WeeklyScheduleSerializer(Class<WeeklySchedule> t) {
+        super(t);
+    }
+
+    @Override
+    public void serialize(WeeklySchedule value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(value, gen);
+    }
+
+    /**
+     * 다른 직렬화기에서 직렬화기 탐색 없이 바로 출력할 때 사용
+     */
+    static void write(WeeklySchedule value, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        for (int day = 0; day < value.dayCount(); day++) {
+            gen.writeFieldName(DAY_NAMES[day]);
+            gen.writeStartObject();
+            gen.writeFieldName(OPEN);
+            gen.writeString(WeeklySchedule.format(value.openAt(day)));
+            gen.writeFieldName(CLOSE);
+            gen.writeString(WeeklySchedule.format(value.closeAt(day)));
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+}
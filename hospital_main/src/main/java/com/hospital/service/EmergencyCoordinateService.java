@@ -0,0 +1,78 @@
+package com.hospital.service;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Service;
+
+import com.hospital.index.EmergencyCoordinateTable;
+import com.hospital.repository.EmergencyLocationRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응급실 좌표 조회표 관리
+ * - 기동 시 한 번 적재하고, 응급실 위치 수집(EmergencyLocationAsyncRunner)이 끝나면 다시 만들어 교체
+ * - 실시간 응급실 데이터의 좌표 매핑은 DB 조회 없이 이 조회표만 사용
+ */
+@Slf4j
+@Service
+@DependsOn("emergencyLocationColumnInitializer")
+public class EmergencyCoordinateService {
+
+	private final EmergencyLocationRepository emergencyLocationRepository;
+	private final Executor hospitalTaskExecutor;
+
+	private volatile EmergencyCoordinateTable table;
+
+	@Autowired
+	public EmergencyCoordinateService(EmergencyLocationRepository emergencyLocationRepository,
+			@Qualifier("hospitalTaskExecutor") Executor hospitalTaskExecutor) {
+		this.emergencyLocationRepository = emergencyLocationRepository;
+		this.hospitalTaskExecutor = hospitalTaskExecutor;
+	}
+
+	// 서버 기동을 막지 않도록 최초 적재는 비동기로 수행
+	@PostConstruct
+	public void init() {
+		hospitalTaskExecutor.execute(() -> {
+			try {
+				reload();
+			} catch (Exception e) {
+				log.error("응급실 좌표 조회표 초기 적재 실패 (첫 조회 시 다시 시도)", e);
+			}
+		});
+	}
+
+	/**
+	 * DB 전체를 다시 읽어 조회표 교체
+	 * @return 좌표가 있는 응급실 수
+	 */
+	public synchronized int reload() {
+		long startTime = System.currentTimeMillis();
+		EmergencyCoordinateTable newTable = EmergencyCoordinateTable.build(emergencyLocationRepository.findAll());
+		this.table = newTable;
+		log.info("응급실 좌표 조회표 적재 완료: {}건, {}ms", newTable.size(), System.currentTimeMillis() - startTime);
+		return newTable.size();
+	}
+
+	/**
+	 * 현재 조회표 (초기 적재 전이면 이 자리에서 적재)
+	 */
+	public EmergencyCoordinateTable getTable() {
+		EmergencyCoordinateTable current = table;
+		if (current != null) {
+			return current;
+		}
+		try {
+			reload();
+			return table;
+		} catch (Exception e) {
+			log.error("응급실 좌표 조회표 적재 실패", e);
+			return EmergencyCoordinateTable.empty();
+		}
+	}
+}
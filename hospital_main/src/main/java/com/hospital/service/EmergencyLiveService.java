@@ -1,7 +1,10 @@
 package com.hospital.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -12,24 +15,47 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hospital.async.EmergencyLiveAsyncRunner;
+import com.hospital.dto.EmergencyFeedUpdate;
+import com.hospital.dto.EmergencySnapshot;
 import com.hospital.dto.EmergencyWebResponse;
-import com.hospital.repository.EmergencyLocationRepository;
+import com.hospital.index.EmergencyCoordinateTable;
 import com.hospital.repository.HospitalMainApiRepository;
 import com.hospital.websocket.EmergencyApiWebSocketHandler;
-
+import com.hospital.websocket.EmergencyFeedEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응급실 실시간 데이터 수집 및 WebSocket 전송
+ * - 기존 클라이언트: 변경이 있을 때마다 전체 목록(JSON 배열) 전송
+ * - protocol=delta 클라이언트: 연결 시 전체 스냅샷, 이후에는 바뀐 병원만 담은 delta 메시지 전송
+ *   (메시지마다 seq가 1씩 증가, 클라이언트가 중간 seq를 놓치면 resync 요청 -> 스냅샷 재전송)
+ * - 구독 필터(영역/시도/hpid)가 있는 클라이언트에는 해당 병원만 전송 (EmergencyApiWebSocketHandler)
+ * - HTTP 폴링(/api/emergency/snapshot)도 수집을 시작하며, 마지막 조회 후 POLL_KEEP_ALIVE_MS 동안은
+ *   WebSocket 연결이 없어도 수집 유지
+ */
+@Slf4j
 @Service
 public class EmergencyLiveService {
 
     private final EmergencyLiveAsyncRunner asyncRunner;
     private final EmergencyApiWebSocketHandler webSocketHandler;
-    private final ObjectMapper objectMapper;
-    private final EmergencyLocationRepository emergencyLocationRepository;
-    private volatile String latestEmergencyJson = null;
+    private final EmergencyFeedEncoder feedEncoder;
+    private final EmergencyCoordinateService emergencyCoordinateService;
+    // 최신 전체 목록 (UTF-8/gzip 바이트와 ETag를 미리 만들어 둠, HTTP 조회 및 WebSocket 초기 전송용)
+    private volatile EmergencySnapshot latestSnapshot = null;
+    // 마지막 갱신 결과 (delta 클라이언트 연결/resync, 구독 변경 시 사용)
+    private volatile EmergencyFeedUpdate latestUpdate = null;
+    // 마지막으로 전송한 데이터 버전 (스케줄러가 재시작돼도 초기화하지 않음)
+    private long sequence = 0;
     private final AtomicBoolean schedulerRunning = new AtomicBoolean(false);
 
+    // HTTP 폴링 클라이언트를 위해 수집을 유지하는 시간 (수집 주기 3분)
+    private static final long POLL_KEEP_ALIVE_MS = 10 * 60 * 1000L;
+    // 이 시각(ms)까지는 WebSocket 연결이 없어도 수집 유지
+    private volatile long pollKeepAliveUntil = 0;
+
     // 이전 응급실 데이터를 hpid(병원코드)로 캐싱
     private final Map<String, EmergencyWebResponse> previousDataMap = new HashMap<>();
 
@@ -37,17 +63,12 @@ public class EmergencyLiveService {
     @Lazy
     public EmergencyLiveService(EmergencyLiveAsyncRunner asyncRunner,
                               EmergencyApiWebSocketHandler webSocketHandler,
-                              EmergencyLocationRepository emergencyLocationRepository) {
+                              EmergencyFeedEncoder feedEncoder,
+                              EmergencyCoordinateService emergencyCoordinateService) {
         this.asyncRunner = asyncRunner;
         this.webSocketHandler = webSocketHandler;
-        this.objectMapper = new ObjectMapper();
-        // null 값 제외 설정 (Map 내부 포함)
-        this.objectMapper.setSerializationInclusion(com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL);
-        this.objectMapper.configOverride(java.util.Map.class)
-            .setInclude(com.fasterxml.jackson.annotation.JsonInclude.Value.construct(
-                com.fasterxml.jackson.annotation.JsonInclude.Include.ALWAYS,
-                com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL));
-        this.emergencyLocationRepository = emergencyLocationRepository;
+        this.feedEncoder = feedEncoder;
+        this.emergencyCoordinateService = emergencyCoordinateService;
     }
 
     /**
@@ -64,38 +85,69 @@ public class EmergencyLiveService {
      * WebSocket 연결 해제 시 호출 - 마지막 연결이면 스케줄러 중지 및 캐시 삭제
      */
     public void onWebSocketDisconnected() {
-        if (webSocketHandler.getConnectedSessionCount() == 0) {
+        if (!hasActiveClients()) {
             if (schedulerRunning.compareAndSet(true, false)) {
                 asyncRunner.stopAsync();
-                latestEmergencyJson = null; // 캐시 삭제 (다음 접속 시 최신 데이터 제공)
-                previousDataMap.clear(); // 이전 데이터 캐시 초기화
+                clearLatestData(); // 캐시 삭제 (다음 접속 시 최신 데이터 제공)
                 System.out.println("✅ 응급실 Async 스케줄러 종료 및 캐시 삭제 (마지막 연결 해제)");
             }
         }
     }
 
+    /**
+     * HTTP 스냅샷 조회 시 호출 - 수집 중이 아니면 시작하고, POLL_KEEP_ALIVE_MS 동안 수집 유지
+     */
+    public void onSnapshotPolled() {
+        pollKeepAliveUntil = System.currentTimeMillis() + POLL_KEEP_ALIVE_MS;
+        if (schedulerRunning.compareAndSet(false, true)) {
+            asyncRunner.runAsyncForAllCities(this::updateCacheFromAsyncResults);
+            log.info("응급실 Async 스케줄러 시작 (HTTP 스냅샷 조회)");
+        }
+    }
+
+    // WebSocket 연결이 있거나 최근 HTTP 폴링이 있었는지
+    private boolean hasActiveClients() {
+        return webSocketHandler.getConnectedSessionCount() > 0 || System.currentTimeMillis() < pollKeepAliveUntil;
+    }
+
     /**
      * Async에서 처리한 DTO 리스트를 캐시에 저장하고 WebSocket으로 브로드캐스트
      */
-    public void updateCacheFromAsyncResults(List<EmergencyWebResponse> dtoList) {
+    public synchronized void updateCacheFromAsyncResults(List<EmergencyWebResponse> dtoList) {
         if (!schedulerRunning.get() || dtoList == null || dtoList.isEmpty()) {
             return;
         }
+        // 폴링이 끊긴 뒤 WebSocket 연결도 없으면 수집 중지
+        if (!hasActiveClients()) {
+            if (schedulerRunning.compareAndSet(true, false)) {
+                asyncRunner.stopAsync();
+                clearLatestData();
+                log.info("응급실 Async 스케줄러 종료 및 캐시 삭제 (연결 및 폴링 없음)");
+            }
+            return;
+        }
 
         try {
             // 배치로 좌표 매핑 (한 번의 쿼리로 처리)
             List<EmergencyWebResponse> mappedList = mapCoordinatesBatch(dtoList);
 
             // 변경 감지 및 타임스탬프 업데이트
-            int changedCount = detectChangesAndUpdateTimestamp(mappedList);
-
-            String newJsonData = objectMapper.writeValueAsString(mappedList);
+            List<EmergencyWebResponse> changed = detectChangesAndUpdateTimestamp(mappedList);
+            List<EmergencyWebResponse> removed = removeMissingHospitals(mappedList);
 
             // 데이터가 변경된 경우에만 브로드캐스트
-            if (!newJsonData.equals(latestEmergencyJson)) {
-                latestEmergencyJson = newJsonData;
-                webSocketHandler.broadcastEmergencyRoomData(newJsonData);
-                System.out.println("✅ 응급실 데이터 업데이트 및 브로드캐스트 완료 (매핑: " + mappedList.size() + "건, 변경: " + changedCount + "건)");
+            if (!changed.isEmpty() || !removed.isEmpty()) {
+                sequence++;
+                String newJsonData = feedEncoder.encodeList(mappedList);
+                EmergencyFeedUpdate update = new EmergencyFeedUpdate(sequence, List.copyOf(mappedList),
+                        changed, removed, newJsonData, feedEncoder.snapshotMessage(sequence, newJsonData),
+                        feedEncoder.deltaMessage(sequence, changed, removed));
+
+                latestSnapshot = EmergencySnapshot.of(sequence, mappedList.size(), newJsonData);
+                latestUpdate = update;
+                webSocketHandler.broadcastEmergencyRoomData(update);
+                System.out.println("✅ 응급실 데이터 업데이트 및 브로드캐스트 완료 (seq: " + sequence + ", 매핑: " + mappedList.size()
+                        + "건, 변경: " + changed.size() + "건, 제외: " + removed.size() + "건)");
             }
         } catch (Exception e) {
             System.err.println("응급실 데이터 처리 중 오류 발생");
@@ -118,10 +170,10 @@ public class EmergencyLiveService {
     public void fetchAndSendInitialData(WebSocketSession session) {
         try {
             List<EmergencyWebResponse> freshData = fetchAndMapEmergencyData();
-            String jsonData = objectMapper.writeValueAsString(freshData);
+            String jsonData = feedEncoder.encodeList(freshData);
 
-            // 캐시 업데이트
-            latestEmergencyJson = jsonData;
+            // 캐시 업데이트 (전송 데이터 버전은 그대로 두고 스냅샷만 교체)
+            latestSnapshot = EmergencySnapshot.of(sequence, freshData.size(), jsonData);
 
             // 세션에 전송
             if (session.isOpen()) {
@@ -136,10 +188,10 @@ public class EmergencyLiveService {
 
     /**
      * 이전 데이터와 비교하여 변경된 병원을 찾고 타임스탬프 업데이트
-     * @return 변경된 병원 수
+     * @return 새로 생기거나 변경된 병원 목록
      */
-    private int detectChangesAndUpdateTimestamp(List<EmergencyWebResponse> newDataList) {
-        int changedCount = 0;
+    private List<EmergencyWebResponse> detectChangesAndUpdateTimestamp(List<EmergencyWebResponse> newDataList) {
+        List<EmergencyWebResponse> changed = new ArrayList<>();
 
         for (EmergencyWebResponse newData : newDataList) {
             String hpid = newData.getHpid();
@@ -152,11 +204,11 @@ public class EmergencyLiveService {
             if (previousData == null) {
                 // 신규 병원 - API의 원본 타임스탬프 유지 (이미 UTC로 변환되어 있음)
                 // updateTimestampToNow()를 호출하지 않음
-                changedCount++;
+                changed.add(newData);
             } else if (!previousData.equals(newData)) {
                 // 데이터가 변경된 병원 - 타임스탬프를 현재 시각으로 업데이트
                 newData.updateTimestampToNow();
-                changedCount++;
+                changed.add(newData);
             } else {
                 // 변경 없음 - 이전 타임스탬프 유지
                 newData.setHvidate(previousData.getHvidate());
@@ -166,38 +218,57 @@ public class EmergencyLiveService {
             previousDataMap.put(hpid, newData);
         }
 
-        return changedCount;
+        return changed;
     }
 
     /**
-     * 배치로 좌표 매핑 (hpid 기반)
+     * 이번 수집 결과에 없는 병원을 이전 데이터에서 제거
+     * @return 제거된 병원의 이전 데이터 (구독 필터 판단용)
      */
-    private List<EmergencyWebResponse> mapCoordinatesBatch(List<EmergencyWebResponse> dtoList) {
-        // hpid 목록 추출
-        List<String> hpidList = dtoList.stream()
-            .map(EmergencyWebResponse::getHpid)
-            .filter(hpid -> hpid != null && !hpid.isEmpty())
-            .distinct()
-            .collect(Collectors.toList());
+    private List<EmergencyWebResponse> removeMissingHospitals(List<EmergencyWebResponse> newDataList) {
+        Set<String> current = new HashSet<>();
+        for (EmergencyWebResponse data : newDataList) {
+            current.add(data.getHpid());
+        }
 
-        // EmergencyLocation에서 좌표 조회 및 Map 생성
-        Map<String, EmergencyCoordinate> locationMap = new HashMap<>();
-        emergencyLocationRepository.findCoordinatesByHpidList(hpidList).forEach(row -> {
-            Double x = parseCoordinate((String) row[1]);
-            Double y = parseCoordinate((String) row[2]);
-            if (x != null && y != null) {
-                locationMap.put((String) row[0], new EmergencyCoordinate(x, y, (String) row[3]));
+        List<EmergencyWebResponse> removed = new ArrayList<>();
+        previousDataMap.values().removeIf(previous -> {
+            if (current.contains(previous.getHpid())) {
+                return false;
             }
+            removed.add(previous);
+            return true;
         });
+        return removed;
+    }
+
+    private synchronized void clearLatestData() {
+        latestSnapshot = null;
+        latestUpdate = null;
+        previousDataMap.clear();
+    }
+
+    /**
+     * 마지막 갱신 결과 (아직 수집 전이면 null)
+     */
+    public EmergencyFeedUpdate getLatestUpdate() {
+        return latestUpdate;
+    }
+
+    /**
+     * 좌표 매핑 (hpid 기반, 메모리 조회표만 사용하고 DB는 조회하지 않음)
+     */
+    private List<EmergencyWebResponse> mapCoordinatesBatch(List<EmergencyWebResponse> dtoList) {
+        EmergencyCoordinateTable table = emergencyCoordinateService.getTable();
 
         // 좌표 매핑 및 필터링
         return dtoList.stream()
             .filter(dto -> {
-                EmergencyCoordinate coord = locationMap.get(dto.getHpid());
+                EmergencyCoordinateTable.Entry coord = table.get(dto.getHpid());
                 if (coord != null) {
-                    dto.setCoordinateX(coord.coordinateX);
-                    dto.setCoordinateY(coord.coordinateY);
-                    dto.setEmergencyAddress(coord.address);
+                    dto.setCoordinateX(coord.coordinateX());
+                    dto.setCoordinateY(coord.coordinateY());
+                    dto.setEmergencyAddress(coord.address());
                     return true;
                 }
                 return false;
@@ -205,49 +276,11 @@ public class EmergencyLiveService {
             .collect(Collectors.toList());
     }
 
-    private Double parseCoordinate(String coordinate) {
-        if (coordinate == null || coordinate.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return Double.parseDouble(coordinate.trim());
-        } catch (NumberFormatException e) {
-            return null;
-        }
-    }
-
-    private static class EmergencyCoordinate {
-        Double coordinateX;
-        Double coordinateY;
-        String address;
-
-        EmergencyCoordinate(Double coordinateX, Double coordinateY, String address) {
-            this.coordinateX = coordinateX;
-            this.coordinateY = coordinateY;
-            this.address = address;
-        }
-    }
-
     /**
-     * WebSocket 초기 연결 시 캐시 반환
+     * WebSocket 초기 연결 및 HTTP 조회용 최신 스냅샷 (아직 수집 전이면 null)
      */
-    public JsonNode getEmergencyRoomData() {
-        System.out.println("🔍 getEmergencyRoomData() 호출 - latestEmergencyJson null 여부: " + (latestEmergencyJson == null));
-
-        if (latestEmergencyJson == null) {
-            System.out.println("⚠️ 캐시 없음 - 빈 ObjectNode 반환");
-            return objectMapper.createObjectNode();
-        }
-
-        try {
-            JsonNode result = objectMapper.readTree(latestEmergencyJson);
-            System.out.println("✅ 캐시 반환 - 타입: " + result.getNodeType() + ", 크기: " + result.size());
-            return result;
-        } catch (Exception e) {
-            System.err.println("응급실 데이터 파싱 중 오류 발생");
-            e.printStackTrace();
-            return objectMapper.createObjectNode();
-        }
+    public EmergencySnapshot getLatestSnapshot() {
+        return latestSnapshot;
     }
 
     /**
@@ -269,9 +302,11 @@ public class EmergencyLiveService {
     public Map<String, Object> getStats() {
         Map<String, Object> stats = new HashMap<>();
         stats.put("schedulerRunning", schedulerRunning.get());
-        stats.put("hasLatestData", latestEmergencyJson != null);
-        stats.put("lastDataSize", getEmergencyRoomData().size());
+        EmergencySnapshot snapshot = latestSnapshot;
+        stats.put("hasLatestData", snapshot != null);
+        stats.put("lastDataSize", snapshot == null ? 0 : snapshot.getCount());
         stats.put("connectedSessions", webSocketHandler.getConnectedSessionCount());
+        stats.put("pollingActive", System.currentTimeMillis() < pollKeepAliveUntil);
 
         // AsyncRunner에서 통계 가져오기 
         stats.put("completedCount", asyncRunner.getCompletedCount());
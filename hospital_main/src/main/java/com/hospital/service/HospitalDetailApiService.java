@@ -19,14 +19,16 @@ public class HospitalDetailApiService {
 	private final HospitalMainApiRepository hospitalMainApiRepository;
 	private final HospitalDetailAsyncRunner hospitalDetailAsyncRunner;
 	private final HospitalDetailApiRepository hospitalDetailRepository;
-	
+	private final HospitalSnapshotService hospitalSnapshotService;
 
 	@Autowired
 	public HospitalDetailApiService(HospitalMainApiRepository hospitalMainApiRepository,
-			HospitalDetailAsyncRunner hospitalDetailAsyncRunner, HospitalDetailApiRepository hospitalDetailRepository) {
+			HospitalDetailAsyncRunner hospitalDetailAsyncRunner, HospitalDetailApiRepository hospitalDetailRepository,
+			HospitalSnapshotService hospitalSnapshotService) {
 		this.hospitalDetailRepository = hospitalDetailRepository;
 		this.hospitalDetailAsyncRunner = hospitalDetailAsyncRunner;
 		this.hospitalMainApiRepository = hospitalMainApiRepository;
+		this.hospitalSnapshotService = hospitalSnapshotService;
 		
 	}
 
@@ -46,7 +48,14 @@ public class HospitalDetailApiService {
 	            // ✅ 간단하게 전체 리스트를 AsyncRunner에 전달 (if 방식 활용)
 	            log.info("총 {}개 병원 상세정보 수집 시작", hospitalCodes.size());
 	            
-	            hospitalDetailAsyncRunner.runBatchAsync(hospitalCodes);
+	            // 수집이 끝날 때까지 스냅샷 재생성을 미룸 (종료는 Runner에서 처리)
+	            hospitalSnapshotService.ingestStarted(1);
+	            try {
+	                hospitalDetailAsyncRunner.runBatchAsync(hospitalCodes);
+	            } catch (RuntimeException e) {
+	                hospitalSnapshotService.ingestFinished(1);
+	                throw e;
+	            }
 
 	            return hospitalCodes.size();
 	            
@@ -21,28 +21,41 @@ public class HospitalMainApiService {
 	private final HospitalMainApiRepository hospitalMainApiRepository;
 	private final HospitalMainAsyncRunner hospitalMainAsyncRunner;
 	private final RegionConfig regionConfig;
+	private final HospitalSnapshotService hospitalSnapshotService;
 
 	@Autowired
 	public HospitalMainApiService(HospitalMainApiRepository hospitalMainApiRepository,
-			HospitalMainAsyncRunner hospitalMainAsyncRunner, RegionConfig regionConfig) {
+			HospitalMainAsyncRunner hospitalMainAsyncRunner, RegionConfig regionConfig,
+			HospitalSnapshotService hospitalSnapshotService) {
 		this.hospitalMainApiRepository = hospitalMainApiRepository;
 		this.hospitalMainAsyncRunner = hospitalMainAsyncRunner;
 		this.regionConfig = regionConfig;
+		this.hospitalSnapshotService = hospitalSnapshotService;
 
 	}
 
 	public void updateHospitalMain() {
 		log.info("병원 데이터 수집 시작 - 대상 지역: {}", regionConfig.getCityName());
-		
-		hospitalMainApiRepository.deleteAllInBatch();
 
 		// regionConfig에서 시군구 코드 가져오기
 		List<String> sidoCodes = regionConfig.getNationwideSidoCodes();
-		hospitalMainAsyncRunner.resetCounter();
-		hospitalMainAsyncRunner.setTotalCount(sidoCodes.size());
 
-		for (String sidoCd : sidoCodes) {
-			hospitalMainAsyncRunner.runAsync(sidoCd);
+		// 지역별 수집이 모두 끝난 뒤 스냅샷을 재생성하도록 삭제 전에 작업 수 등록 (종료는 Runner에서 처리)
+		hospitalSnapshotService.ingestStarted(sidoCodes.size());
+		int dispatched = 0;
+		try {
+			hospitalMainApiRepository.deleteAllInBatch();
+
+			hospitalMainAsyncRunner.resetCounter();
+			hospitalMainAsyncRunner.setTotalCount(sidoCodes.size());
+
+			for (String sidoCd : sidoCodes) {
+				hospitalMainAsyncRunner.runAsync(sidoCd);
+				dispatched++;
+			}
+		} catch (RuntimeException e) {
+			hospitalSnapshotService.ingestFinished(sidoCodes.size() - dispatched);
+			throw e;
 		}
 		log.info("{}개 지역 병렬 처리 완료", sidoCodes.size());
 
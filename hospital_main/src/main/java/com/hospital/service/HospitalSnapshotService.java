@@ -0,0 +1,145 @@
+package com.hospital.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.WeeklySchedule;
+import com.hospital.index.HospitalSpatialIndex;
+import com.hospital.repository.HospitalJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병원 위치 검색용 메모리 스냅샷 관리
+ * - 병원 데이터는 하루 한 번(새벽 배치)만 바뀌므로 전체를 메모리에 올려두고 조회
+ * - 재생성 시 새 인덱스를 만든 뒤 참조만 교체 (조회 중인 요청은 이전 인덱스를 계속 사용)
+ * - 병원 수집(기본정보/상세/진료과목/전문의)이 모두 끝난 시점에 재생성 (수집 중인 일부 데이터로 만들지 않음)
+ */
+@Slf4j
+@Service
+public class HospitalSnapshotService {
+
+	private final HospitalJdbcRepository hospitalJdbcRepository;
+	private final NameSearchService nameSearchService;
+	private final UnifiedSearchService unifiedSearchService;
+	private final Executor hospitalTaskExecutor;
+
+	private final AtomicLong versionSequence = new AtomicLong();
+	// 진행 중인 병원 수집 작업 수 (0이 되면 스냅샷 재생성)
+	private final AtomicInteger runningIngests = new AtomicInteger();
+	private volatile HospitalSpatialIndex index;
+
+	@Autowired
+	public HospitalSnapshotService(HospitalJdbcRepository hospitalJdbcRepository, NameSearchService nameSearchService,
+			UnifiedSearchService unifiedSearchService, @Qualifier("hospitalTaskExecutor") Executor hospitalTaskExecutor) {
+		this.hospitalJdbcRepository = hospitalJdbcRepository;
+		this.nameSearchService = nameSearchService;
+		this.unifiedSearchService = unifiedSearchService;
+		this.hospitalTaskExecutor = hospitalTaskExecutor;
+	}
+
+	// 서버 기동을 막지 않도록 최초 로딩은 비동기로 수행
+	@PostConstruct
+	public void init() {
+		rebuildAsync();
+	}
+
+	/**
+	 * 병원 수집 작업 등록 (수집 서비스가 비동기 작업을 넘기기 전에 작업 수만큼 호출)
+	 */
+	public void ingestStarted(int tasks) {
+		runningIngests.addAndGet(tasks);
+	}
+
+	/**
+	 * 병원 수집 작업 종료 (수집 Runner가 작업을 마칠 때 성공/실패와 관계없이 호출)
+	 * - 진행 중인 수집이 더 없으면 스냅샷을 비동기로 재생성
+	 */
+	public void ingestFinished(int tasks) {
+		if (tasks <= 0) {
+			return;
+		}
+		int remaining = runningIngests.updateAndGet(count -> Math.max(0, count - tasks));
+		if (remaining == 0) {
+			log.info("병원 수집 종료 - 스냅샷 재생성 요청");
+			rebuildAsync();
+		}
+	}
+
+	private void rebuildAsync() {
+		hospitalTaskExecutor.execute(() -> {
+			try {
+				rebuild();
+			} catch (Exception e) {
+				log.error("병원 스냅샷 재생성 실패 (이전 스냅샷 또는 DB 조회로 대체)", e);
+			}
+		});
+	}
+
+	/**
+	 * DB 전체를 다시 읽어 인덱스를 교체
+	 * @return 인덱싱된 병원 수
+	 */
+	public synchronized int rebuild() {
+		long startTime = System.currentTimeMillis();
+
+		List<HospitalWebResponse> hospitals = hospitalJdbcRepository.findAllForSnapshot();
+		internSharedValues(hospitals);
+
+		HospitalSpatialIndex newIndex = HospitalSpatialIndex.build(hospitals, versionSequence.incrementAndGet());
+		this.index = newIndex;
+
+		// 이름 검색 색인도 같은 객체로 재생성
+		nameSearchService.rebuildHospitals(hospitals);
+		unifiedSearchService.evictSearchCache();
+
+		// DB 조회 경로(스냅샷 준비 전)에서도 비트마스크 필터를 쓸 수 있도록 컬럼 갱신 (DB 안에서 계산)
+		int updatedMasks = hospitalJdbcRepository.refreshDepartmentMasks();
+		log.info("진료과 비트마스크 갱신: {}건", updatedMasks);
+
+		log.info("병원 스냅샷 생성 완료: {}건 (version {}), {}ms",
+				newIndex.size(), newIndex.getVersion(), System.currentTimeMillis() - startTime);
+		return newIndex.size();
+	}
+
+	/**
+	 * 현재 인덱스 (아직 로딩 전이면 null)
+	 */
+	public HospitalSpatialIndex getIndex() {
+		return index;
+	}
+
+	public boolean isReady() {
+		return index != null;
+	}
+
+	// 같은 내용의 운영시간표/진료과 목록은 하나의 불변 인스턴스를 공유해 메모리 절약
+	private void internSharedValues(List<HospitalWebResponse> hospitals) {
+		Map<WeeklySchedule, WeeklySchedule> schedules = new HashMap<>();
+		Map<List<String>, List<String>> subjects = new HashMap<>();
+
+		for (HospitalWebResponse hospital : hospitals) {
+			if (hospital.getWeeklySchedule() != null) {
+				hospital.setWeeklySchedule(schedules.computeIfAbsent(hospital.getWeeklySchedule(), Function.identity()));
+			}
+			if (hospital.getMedicalSubjects() != null) {
+				hospital.setMedicalSubjects(subjects.computeIfAbsent(hospital.getMedicalSubjects(), List::copyOf));
+			}
+			if (hospital.getProfessionalDoctors() != null) {
+				hospital.setProfessionalDoctors(Collections.unmodifiableMap(hospital.getProfessionalDoctors()));
+			}
+		}
+	}
+}
@@ -4,11 +4,8 @@ import com.hospital.entity.HospitalMain;
 import com.hospital.entity.HospitalDetail;
 import com.hospital.entity.ProDoc;
 import com.hospital.util.CurrentTimeUtils;
-import com.hospital.util.TodayOperatingTimeCalculator;
 
-import java.time.DayOfWeek;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -69,63 +66,9 @@ public class HospitalTagFilter {
 
     private static boolean isCurrentlyOpen(HospitalDetail detail) {
         LocalDateTime now = CurrentTimeUtils.getCurrentDateTime();
-        DayOfWeek today = now.getDayOfWeek();
-        
-        // TodayOperatingTimeCalculator의 로직 활용
-        TodayOperatingTimeCalculator.TodayOperatingTime todayTime = 
-            TodayOperatingTimeCalculator.getTodayOperatingTime(detail);
-        
-        String openTimeStr = todayTime.getOpenTime();
-        String closeTimeStr = todayTime.getCloseTime();
-        
-        // 운영시간이 유효하지 않으면 운영하지 않음
-        if (!HospitalDetail.isValidTime(openTimeStr) || !HospitalDetail.isValidTime(closeTimeStr)) {
-            return false;
-        }
-        
-        return isWithinOperatingHours(openTimeStr, closeTimeStr, now.toLocalTime());
-    }
+        int minuteOfDay = now.getHour() * 60 + now.getMinute();
 
-    /**
-     * 현재 시간이 운영시간 내에 있는지 확인
-     */
-    private static boolean isWithinOperatingHours(String openTimeStr, String closeTimeStr, LocalTime currentTime) {
-        try {
-            LocalTime openTime = parseTimeString(openTimeStr);
-            LocalTime closeTime = parseTimeString(closeTimeStr);
-            
-            // 자정을 넘어가는 경우 (예: 22:00 ~ 02:00)
-            if (closeTime.isBefore(openTime)) {
-                // 현재 시간이 오픈시간 이후이거나 마감시간 이전이면 운영중
-                return currentTime.isAfter(openTime) || currentTime.equals(openTime) || 
-                       currentTime.isBefore(closeTime);
-            } else {
-                // 일반적인 경우 (예: 09:00 ~ 18:00)
-                return (currentTime.isAfter(openTime) || currentTime.equals(openTime)) && 
-                       currentTime.isBefore(closeTime);
-            }
-        } catch (Exception e) {
-            // 시간 파싱 실패 시 운영하지 않는 것으로 처리
-            return false;
-        }
-    }
-    
-    /**
-     * "HHmm" 형식의 문자열을 LocalTime으로 변환
-     */
-    private static LocalTime parseTimeString(String timeStr) {
-        if (timeStr == null || timeStr.length() != 4) {
-            throw new IllegalArgumentException("Invalid time format: " + timeStr);
-        }
-        
-        int hour = Integer.parseInt(timeStr.substring(0, 2));
-        int minute = Integer.parseInt(timeStr.substring(2, 4));
-        
-        // 시간 범위 검증
-        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
-            throw new IllegalArgumentException("Invalid time values: " + timeStr);
-        }
-        
-        return LocalTime.of(hour, minute);
+        // 압축된 운영시간으로 비교 (자정을 넘기는 운영, 전날 밤부터 이어지는 운영 포함)
+        return detail.getWeeklySchedule().isOpenAt(now.getDayOfWeek(), minuteOfDay);
     }
 }
\ No newline at end of file
@@ -1,20 +1,27 @@
 package com.hospital.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.IntPredicate;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.hospital.config.RegionConfig;
-import com.hospital.converter.HospitalConverter;
+import com.hospital.dto.HospitalSearchResult;
 import com.hospital.dto.HospitalWebResponse;
-import com.hospital.entity.HospitalMain;
+import com.hospital.dto.WeeklySchedule;
+import com.hospital.index.HospitalSpatialIndex;
 import com.hospital.repository.HospitalJdbcRepository;
-import com.hospital.repository.HospitalMainApiRepository;
+import com.hospital.util.CurrentTimeUtils;
 import com.hospital.util.DistanceCalculator;
+import com.hospital.util.SubjectCodeWrapper;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,36 +31,25 @@ import lombok.extern.slf4j.Slf4j;
 public class HospitalWebService {
 
 	private final HospitalJdbcRepository hospitalJdbcRepository;
+	private final HospitalSnapshotService hospitalSnapshotService;
 	private final DistanceCalculator distanceCalculator;
 
 	private static final double KM_PER_DEGREE_LAT = 110.0;
 
+	// limit 최대값 (요청 값이 더 크면 이 값으로 제한)
+	private static final int MAX_LIMIT = 1000;
+
 	@Autowired
-	public HospitalWebService(HospitalJdbcRepository hospitalJdbcRepository, DistanceCalculator distanceCalculator) {
+	public HospitalWebService(HospitalJdbcRepository hospitalJdbcRepository,
+			HospitalSnapshotService hospitalSnapshotService, DistanceCalculator distanceCalculator) {
 
 		this.hospitalJdbcRepository = hospitalJdbcRepository;
+		this.hospitalSnapshotService = hospitalSnapshotService;
 		this.distanceCalculator = distanceCalculator;
 	}
 
 	public List<HospitalWebResponse> getOptimizedHospitalsV2(double userLat, double userLng, double radius) {
-		long startTime = System.currentTimeMillis();
-		log.info("=== JDBC Optimized Query ===");
-
-		// MBR 계산
-		double deltaDegreeY = radius / KM_PER_DEGREE_LAT;
-		double kmPerDegreeLon = 111.32 * Math.cos(Math.toRadians(userLat));
-		double deltaDegreeX = radius / kmPerDegreeLon;
-
-		double minLon = userLng - deltaDegreeX;
-		double maxLon = userLng + deltaDegreeX;
-		double minLat = userLat - deltaDegreeY;
-		double maxLat = userLat + deltaDegreeY;
-
-		// JDBC로 조회
-		List<HospitalWebResponse> result = hospitalJdbcRepository.findByMBRDirect(minLon, maxLon, minLat, maxLat);
-
-		log.info("Total elapsed: {}ms", System.currentTimeMillis() - startTime);
-		return result;
+		return getOptimizedHospitalsV2(userLat, userLng, radius, null, null);
 	}
 
 	// 진료과 필터링 + limit 적용 버전
@@ -64,89 +60,253 @@ public class HospitalWebService {
 			List<String> departments,
 			Integer limit) {
 
+		return searchHospitals(userLat, userLng, radius, departments, limit, null).getHospitals();
+	}
+
+	/**
+	 * 반경(원) 안의 병원을 거리순으로 반환 (스냅샷 버전 포함)
+	 * @param openAt 이 시각에 운영 중인 병원만 (null이면 운영시간 조건 없음)
+	 */
+	public HospitalSearchResult searchHospitals(
+			double userLat,
+			double userLng,
+			double radius,
+			List<String> departments,
+			Integer limit,
+			LocalDateTime openAt) {
+
 		long startTime = System.currentTimeMillis();
-		log.info("=== Hospital Search (departments: {}, limit: {}) ===", departments, limit);
+		if (limit != null && limit > MAX_LIMIT) {
+			limit = MAX_LIMIT;
+		}
+		log.info("=== Hospital Search (departments: {}, limit: {}, openAt: {}) ===", departments, limit, openAt);
+
+		HospitalSpatialIndex index = hospitalSnapshotService.getIndex();
+		DayOfWeek today = CurrentTimeUtils.getCurrentDayOfWeek();
+		List<HospitalWebResponse> hospitals;
+
+		if (index == null) {
+			// 스냅샷 준비 전: 원 필터링, 거리 정렬, LIMIT까지 DB에서 처리
+			// (운영시간 조건이 있으면 DB 결과를 걸러낸 뒤 limit 적용)
+			log.info("병원 스냅샷 준비 전 - JDBC 조회");
+			MBR mbr = MBR.of(userLat, userLng, radius);
+			hospitals = hospitalJdbcRepository.findWithinRadius(
+				userLat, userLng, radius,
+				mbr.minLon(), mbr.maxLon(), mbr.minLat(), mbr.maxLat(),
+				departments, openAt == null ? limit : null
+			);
+			if (openAt != null) {
+				hospitals = filterOpenAt(hospitals, openAt, limit);
+			}
+		} else {
+			IntPredicate filter = searchFilter(index, departments, openAt);
+			if (limit != null && limit > 0) {
+				// limit이 있으면 최근접 K개 검색 (전체 목록을 만들지 않음)
+				hospitals = findNearest(index, userLat, userLng, radius, filter, limit, today);
+			} else {
+				hospitals = findWithinRadius(index, userLat, userLng, radius, filter, today);
+			}
+		}
 
-		// 1. MBR 계산 및 조회
-		double deltaDegreeY = radius / KM_PER_DEGREE_LAT;
-		double kmPerDegreeLon = 111.32 * Math.cos(Math.toRadians(userLat));
-		double deltaDegreeX = radius / kmPerDegreeLon;
+		// 타임스탬프 설정
+		addTimestamp(hospitals);
 
-		double minLon = userLng - deltaDegreeX;
-		double maxLon = userLng + deltaDegreeX;
-		double minLat = userLat - deltaDegreeY;
-		double maxLat = userLat + deltaDegreeY;
+		log.info("병원 검색 완료: {}개, Total elapsed: {}ms", hospitals.size(), System.currentTimeMillis() - startTime);
+		return new HospitalSearchResult(hospitals, index == null ? 0L : index.getVersion());
+	}
 
-		List<HospitalWebResponse> hospitals = hospitalJdbcRepository.findByMBRDirect(
-			minLon, maxLon, minLat, maxLat
-		);
+	/**
+	 * 스트리밍 검색용 콜백 - 병원 하나씩 바로 출력
+	 * hospital은 스냅샷 공유 객체일 수 있으므로 수정하지 말 것
+	 */
+	@FunctionalInterface
+	public interface HospitalStreamHandler {
+		void handle(HospitalWebResponse hospital, double distance, long snapshotVersion) throws IOException;
+	}
 
-		log.info("MBR 조회 완료: {}개", hospitals.size());
+	private static final int STREAM_CHUNK_SIZE = 100;
+
+	/**
+	 * 반경(원) 안의 병원을 목록으로 모으지 않고 하나씩 handler로 전달 (거리 정렬 없음)
+	 * - 스냅샷: 격자 인덱스를 순회하며 복사본 없이 바로 전달
+	 * - 스냅샷 준비 전: DB 결과를 STREAM_CHUNK_SIZE 단위로 전달
+	 *   (트랜잭션 없이 실행해 스트리밍 커넥션과 진료과목/전문의 보조 조회가 서로 다른 커넥션을 쓰도록 함)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void streamHospitals(
+			double userLat,
+			double userLng,
+			double radius,
+			List<String> departments,
+			LocalDateTime openAt,
+			HospitalStreamHandler handler) throws IOException {
+
+		MBR mbr = MBR.of(userLat, userLng, radius);
+		HospitalSpatialIndex index = hospitalSnapshotService.getIndex();
+
+		try {
+			if (index == null) {
+				hospitalJdbcRepository.streamWithinRadius(
+					userLat, userLng, radius,
+					mbr.minLon(), mbr.maxLon(), mbr.minLat(), mbr.maxLat(),
+					departments, STREAM_CHUNK_SIZE,
+					chunk -> chunk.forEach(hospital -> {
+						if (openAt == null || isOpenAt(hospital, openAt)) {
+							handleUnchecked(handler, hospital, hospital.getDistance(), 0L);
+						}
+					})
+				);
+				return;
+			}
+
+			IntPredicate filter = searchFilter(index, departments, openAt);
+			long version = index.getVersion();
+			index.forEachInBox(mbr.minLon(), mbr.maxLon(), mbr.minLat(), mbr.maxLat(), position -> {
+				if (filter != null && !filter.test(position)) {
+					return;
+				}
+				double distance = distanceCalculator.calculateDistance(
+					userLat, userLng, index.latitude(position), index.longitude(position)
+				);
+				if (distance <= radius) {
+					handleUnchecked(handler, index.get(position), distance, version);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
 
-		// 2. 진료과 필터링
-		if (departments != null && !departments.isEmpty()) {
-			hospitals = filterByDepartments(hospitals, departments);
-			log.info("진료과 필터링 완료: {}개", hospitals.size());
+	// 람다 안에서 IOException을 전달하기 위한 래핑 (streamHospitals에서 다시 풀어서 던짐)
+	private void handleUnchecked(HospitalStreamHandler handler, HospitalWebResponse hospital, double distance,
+			long version) {
+		try {
+			handler.handle(hospital, distance, version);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
+	}
+
+	// 최근접 K개 검색 (반경 밖 병원은 제외)
+	private List<HospitalWebResponse> findNearest(
+			HospitalSpatialIndex index,
+			double userLat,
+			double userLng,
+			double radius,
+			IntPredicate filter,
+			int limit,
+			DayOfWeek today) {
 
-		// 3. 거리순 정렬
-		hospitals = sortByDistance(hospitals, userLat, userLng);
-		log.info("거리순 정렬 완료");
+		List<HospitalSpatialIndex.Neighbor> neighbors = index.nearest(
+			distanceCalculator, userLat, userLng, limit, radius, filter
+		);
 
-		// 4. limit 적용
-		hospitals = applyLimit(hospitals, limit);
+		List<HospitalWebResponse> result = new ArrayList<>(neighbors.size());
+		for (HospitalSpatialIndex.Neighbor neighbor : neighbors) {
+			result.add(copyWithDistance(index, neighbor.position(), neighbor.distanceKm(), today));
+		}
+		return result;
+	}
 
-		// 5. 타임스탬프 설정
-		addTimestamp(hospitals);
+	// 반경 안 전체 검색 - MBR 후보 중 실제 거리가 반경 이내인 병원만, 거리순
+	private List<HospitalWebResponse> findWithinRadius(
+			HospitalSpatialIndex index,
+			double userLat,
+			double userLng,
+			double radius,
+			IntPredicate filter,
+			DayOfWeek today) {
+
+		MBR mbr = MBR.of(userLat, userLng, radius);
+
+		List<HospitalSpatialIndex.Neighbor> candidates = new ArrayList<>();
+		index.forEachInBox(mbr.minLon(), mbr.maxLon(), mbr.minLat(), mbr.maxLat(), position -> {
+			if (filter != null && !filter.test(position)) {
+				return;
+			}
+			double distance = distanceCalculator.calculateDistance(
+				userLat, userLng, index.latitude(position), index.longitude(position)
+			);
+			if (distance <= radius) {
+				candidates.add(new HospitalSpatialIndex.Neighbor(position, distance));
+			}
+		});
+		candidates.sort(Comparator.comparingDouble(HospitalSpatialIndex.Neighbor::distanceKm));
 
-		log.info("Total elapsed: {}ms", System.currentTimeMillis() - startTime);
-		return hospitals;
+		List<HospitalWebResponse> result = new ArrayList<>(candidates.size());
+		for (HospitalSpatialIndex.Neighbor candidate : candidates) {
+			result.add(copyWithDistance(index, candidate.position(), candidate.distanceKm(), today));
+		}
+		return result;
 	}
 
-	// 진료과 필터링 (재사용 가능)
-	private List<HospitalWebResponse> filterByDepartments(
-			List<HospitalWebResponse> hospitals,
-			List<String> departments) {
+	// 진료과 + 운영시간 필터 (조건이 없으면 null)
+	private IntPredicate searchFilter(HospitalSpatialIndex index, List<String> departments, LocalDateTime openAt) {
+		IntPredicate departmentFilter = departmentFilter(index, departments);
+		if (openAt == null) {
+			return departmentFilter;
+		}
 
-		return hospitals.stream()
-			.filter(hospital -> {
-				List<String> hospitalDepts = hospital.getMedicalSubjects();
-				if (hospitalDepts == null || hospitalDepts.isEmpty()) {
-					return false;
-				}
-				return departments.stream()
-					.anyMatch(dept -> hospitalDepts.contains(dept));
-			})
-			.collect(Collectors.toList());
+		// 요일별 운영시간 컬럼으로 정수 비교만 수행
+		DayOfWeek day = openAt.getDayOfWeek();
+		int minuteOfDay = openAt.getHour() * 60 + openAt.getMinute();
+		IntPredicate openFilter = position -> index.isOpenAt(position, day, minuteOfDay);
+		return departmentFilter == null ? openFilter : departmentFilter.and(openFilter);
 	}
 
-	// 거리순 정렬 (재사용 가능)
-	private List<HospitalWebResponse> sortByDistance(
-			List<HospitalWebResponse> hospitals,
-			double userLat,
-			double userLng) {
+	// 진료과 필터 (진료과 조건이 없으면 null)
+	private IntPredicate departmentFilter(HospitalSpatialIndex index, List<String> departments) {
+		if (departments == null || departments.isEmpty()) {
+			return null;
+		}
+		if (SubjectCodeWrapper.isMaskable(departments)) {
+			long wanted = SubjectCodeWrapper.departmentMask(departments);
+			return position -> (index.departmentMask(position) & wanted) != 0;
+		}
+		// 코드표에 없는 진료과명이면 이름 비교
+		return position -> hasAnyDepartment(index.get(position), departments);
+	}
 
-		hospitals.sort((h1, h2) -> {
-			double dist1 = distanceCalculator.calculateDistance(
-				userLat, userLng, h1.getCoordinateY(), h1.getCoordinateX()
-			);
-			double dist2 = distanceCalculator.calculateDistance(
-				userLat, userLng, h2.getCoordinateY(), h2.getCoordinateX()
-			);
-			return Double.compare(dist1, dist2);
-		});
-		return hospitals;
+	private boolean hasAnyDepartment(HospitalWebResponse hospital, List<String> departments) {
+		List<String> hospitalDepts = hospital.getMedicalSubjects();
+		if (hospitalDepts == null || hospitalDepts.isEmpty()) {
+			return false;
+		}
+		return departments.stream()
+			.anyMatch(dept -> hospitalDepts.contains(dept));
 	}
 
-	// limit 적용 (재사용 가능)
-	private List<HospitalWebResponse> applyLimit(
-			List<HospitalWebResponse> hospitals,
+	// DB 조회 결과 운영시간 필터 + limit 적용
+	private List<HospitalWebResponse> filterOpenAt(List<HospitalWebResponse> hospitals, LocalDateTime openAt,
 			Integer limit) {
+		List<HospitalWebResponse> result = new ArrayList<>();
+		for (HospitalWebResponse hospital : hospitals) {
+			if (isOpenAt(hospital, openAt)) {
+				result.add(hospital);
+				if (limit != null && limit > 0 && result.size() >= limit) {
+					break;
+				}
+			}
+		}
+		return result;
+	}
+
+	private boolean isOpenAt(HospitalWebResponse hospital, LocalDateTime openAt) {
+		WeeklySchedule schedule = hospital.getWeeklySchedule();
+		return schedule != null
+			&& schedule.isOpenAt(openAt.getDayOfWeek(), openAt.getHour() * 60 + openAt.getMinute());
+	}
 
-		if (limit != null && limit > 0 && hospitals.size() > limit) {
-			return hospitals.subList(0, limit);
+	// 스냅샷 객체는 공유되므로 요청마다 얕은 복사본을 만들어 반환 (거리, 오늘 운영시간, timestamp 등 요청별 값 설정용)
+	private HospitalWebResponse copyWithDistance(HospitalSpatialIndex index, int position, double distance,
+			DayOfWeek today) {
+		HospitalWebResponse hospital = index.get(position);
+		HospitalWebResponse.HospitalWebResponseBuilder builder = hospital.toBuilder().distance(distance);
+		if (hospital.getWeeklySchedule() != null) {
+			builder.todayOpen(hospital.getWeeklySchedule().formattedOpen(today))
+				.todayClose(hospital.getWeeklySchedule().formattedClose(today));
 		}
-		return hospitals;
+		return builder.build();
 	}
 
 	// 타임스탬프 설정 (재사용 가능)
@@ -155,5 +315,16 @@ public class HospitalWebService {
 		hospitals.forEach(hospital -> hospital.setTimestamp(timestamp));
 	}
 
+	// 반경을 감싸는 MBR (위경도 사각형)
+	private record MBR(double minLon, double maxLon, double minLat, double maxLat) {
+
+		static MBR of(double userLat, double userLng, double radius) {
+			double deltaDegreeY = radius / KM_PER_DEGREE_LAT;
+			double kmPerDegreeLon = 111.32 * Math.cos(Math.toRadians(userLat));
+			double deltaDegreeX = radius / kmPerDegreeLon;
 
+			return new MBR(userLng - deltaDegreeX, userLng + deltaDegreeX,
+					userLat - deltaDegreeY, userLat + deltaDegreeY);
+		}
+	}
 }
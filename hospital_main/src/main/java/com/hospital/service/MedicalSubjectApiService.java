@@ -26,32 +26,45 @@ public class MedicalSubjectApiService {
 	private final MedicalSubjectAsyncRunner medicalSubjectAsyncRunner;
 	private final MedicalSubjectApiRepository medicalSubjectApiRepository;
 	private final SubjectMappingConfig subjectMappingConfig;
+	private final HospitalSnapshotService hospitalSnapshotService;
 
 	@Autowired
 	public MedicalSubjectApiService(HospitalMainApiRepository hospitalMainApiRepository,
 			MedicalSubjectAsyncRunner medicalSubjectAsyncRunner,
 			MedicalSubjectApiRepository medicalSubjectApiRepository,
-			SubjectMappingConfig subjectMappingConfig) {
+			SubjectMappingConfig subjectMappingConfig,
+			HospitalSnapshotService hospitalSnapshotService) {
 		this.medicalSubjectApiRepository = medicalSubjectApiRepository;
 		this.hospitalMainApiRepository = hospitalMainApiRepository;
 		this.medicalSubjectAsyncRunner = medicalSubjectAsyncRunner;
 		this.subjectMappingConfig = subjectMappingConfig;
+		this.hospitalSnapshotService = hospitalSnapshotService;
 	}
 
 	public int updateSubjects() {
 		try {
 			log.info("병원 데이터 수집 시작 - 진료과목: {}", subjectMappingConfig.getSubjectNames());
-			
-			log.info("기존 과목 데이터 전체 삭제 시작...");
-	        medicalSubjectApiRepository.deleteAllInBatch();
-	        log.info("기존 과목 데이터 전체 삭제 완료");
-			
+
 			List<String> subCodes = subjectMappingConfig.getSubjectCodes();
-			medicalSubjectAsyncRunner.resetCounter();
-			medicalSubjectAsyncRunner.setTotalCount(subCodes.size());
 
-			for (String subCd : subCodes) {
-				medicalSubjectAsyncRunner.runAsync(subCd);
+			// 과목별 수집이 모두 끝난 뒤 스냅샷을 재생성하도록 삭제 전에 작업 수 등록 (종료는 Runner에서 처리)
+			hospitalSnapshotService.ingestStarted(subCodes.size());
+			int dispatched = 0;
+			try {
+				log.info("기존 과목 데이터 전체 삭제 시작...");
+				medicalSubjectApiRepository.deleteAllInBatch();
+				log.info("기존 과목 데이터 전체 삭제 완료");
+
+				medicalSubjectAsyncRunner.resetCounter();
+				medicalSubjectAsyncRunner.setTotalCount(subCodes.size());
+
+				for (String subCd : subCodes) {
+					medicalSubjectAsyncRunner.runAsync(subCd);
+					dispatched++;
+				}
+			} catch (RuntimeException e) {
+				hospitalSnapshotService.ingestFinished(subCodes.size() - dispatched);
+				throw e;
 			}
 			log.info("{}개 과목 병렬 처리 시작", subCodes.size());
 			return subCodes.size(); // 총 지역 수만 반환
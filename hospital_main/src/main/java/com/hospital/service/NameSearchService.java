@@ -0,0 +1,175 @@
+package com.hospital.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.hospital.dto.AutocompleteSuggestion;
+import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.PharmacyWebResponse;
+import com.hospital.index.AutocompleteIndex;
+import com.hospital.index.NameSearchIndex;
+import com.hospital.repository.PharmacyJdbcRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병원/약국 이름 검색용 메모리 역색인 + 자동완성 색인 관리
+ * - 병원: 병원 스냅샷 재생성 시 같은 목록으로 함께 재생성 (HospitalSnapshotService)
+ * - 약국: 기동 시 + 약국 데이터 수집 완료 시 재생성 (PharmacyAsyncRunner)
+ * - 아직 준비 전이면 검색 결과 대신 null을 반환하고 호출 측에서 DB 조회로 대체
+ */
+@Slf4j
+@Service
+public class NameSearchService {
+
+	private final PharmacyJdbcRepository pharmacyJdbcRepository;
+	private final Executor hospitalTaskExecutor;
+
+	private volatile NameSearchIndex<HospitalWebResponse> hospitalIndex;
+	private volatile NameSearchIndex<PharmacyWebResponse> pharmacyIndex;
+	private volatile AutocompleteIndex hospitalAutocomplete;
+	private volatile AutocompleteIndex pharmacyAutocomplete;
+
+	@Autowired
+	public NameSearchService(PharmacyJdbcRepository pharmacyJdbcRepository,
+			@Qualifier("hospitalTaskExecutor") Executor hospitalTaskExecutor) {
+		this.pharmacyJdbcRepository = pharmacyJdbcRepository;
+		this.hospitalTaskExecutor = hospitalTaskExecutor;
+	}
+
+	// 서버 기동을 막지 않도록 약국 인덱스 최초 생성은 비동기로 수행
+	@PostConstruct
+	public void init() {
+		hospitalTaskExecutor.execute(() -> {
+			try {
+				rebuildPharmacies();
+			} catch (Exception e) {
+				log.error("약국 이름 색인 초기 생성 실패 (DB 조회로 대체)", e);
+			}
+		});
+	}
+
+	/**
+	 * 병원 이름 색인 교체 (스냅샷과 같은 객체를 공유)
+	 */
+	public void rebuildHospitals(List<HospitalWebResponse> hospitals) {
+		long startTime = System.currentTimeMillis();
+		NameSearchIndex<HospitalWebResponse> newIndex = NameSearchIndex.build(hospitals, HospitalWebResponse::getHospitalName);
+		this.hospitalIndex = newIndex;
+		this.hospitalAutocomplete = AutocompleteIndex.build(hospitals.stream()
+				.map(hospital -> AutocompleteSuggestion.builder()
+						.medicalType("HOSPITAL")
+						.code(hospital.getHospitalCode())
+						.name(hospital.getHospitalName())
+						.address(hospital.getHospitalAddress())
+						.score(hospital.getTotalDoctors() != null ? hospital.getTotalDoctors() : 0)
+						.build())
+				.toList());
+		log.info("병원 이름 색인 생성 완료: {}건, {}ms", newIndex.size(), System.currentTimeMillis() - startTime);
+	}
+
+	/**
+	 * DB 전체 약국을 다시 읽어 이름 색인 교체
+	 * @return 색인된 약국 수
+	 */
+	public synchronized int rebuildPharmacies() {
+		long startTime = System.currentTimeMillis();
+		List<PharmacyWebResponse> pharmacies = pharmacyJdbcRepository.findAll();
+		NameSearchIndex<PharmacyWebResponse> newIndex = NameSearchIndex.build(pharmacies, PharmacyWebResponse::getPharmacyName);
+		this.pharmacyIndex = newIndex;
+		this.pharmacyAutocomplete = AutocompleteIndex.build(pharmacies.stream()
+				.map(pharmacy -> AutocompleteSuggestion.builder()
+						.medicalType("PHARMACY")
+						.code(pharmacy.getPharmacyCode())
+						.name(pharmacy.getPharmacyName())
+						.address(pharmacy.getPharmacyAddress())
+						.score(0)
+						.build())
+				.toList());
+		log.info("약국 이름 색인 생성 완료: {}건, {}ms", newIndex.size(), System.currentTimeMillis() - startTime);
+		return newIndex.size();
+	}
+
+	/**
+	 * 이름 앞부분(또는 초성) 자동완성 - 병원/약국 후보를 합쳐 상위 limit개
+	 * - 색인 준비 전인 쪽은 제외
+	 */
+	public List<AutocompleteSuggestion> autocomplete(String prefix, int limit) {
+		AutocompleteIndex hospitals = hospitalAutocomplete;
+		AutocompleteIndex pharmacies = pharmacyAutocomplete;
+
+		List<AutocompleteSuggestion> fromHospitals = hospitals == null ? List.of() : hospitals.lookup(prefix, limit);
+		List<AutocompleteSuggestion> fromPharmacies = pharmacies == null ? List.of() : pharmacies.lookup(prefix, limit);
+		if (fromPharmacies.isEmpty()) {
+			return fromHospitals;
+		}
+		if (fromHospitals.isEmpty()) {
+			return fromPharmacies;
+		}
+
+		// 이미 정렬된 두 목록을 병합
+		int size = Math.min(limit, fromHospitals.size() + fromPharmacies.size());
+		List<AutocompleteSuggestion> merged = new ArrayList<>(size);
+		int h = 0;
+		int p = 0;
+		while (merged.size() < size) {
+			if (p >= fromPharmacies.size() || (h < fromHospitals.size()
+					&& AutocompleteIndex.ORDER.compare(fromHospitals.get(h), fromPharmacies.get(p)) <= 0)) {
+				merged.add(fromHospitals.get(h++));
+			} else {
+				merged.add(fromPharmacies.get(p++));
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * 이름이 일치하는 병원마다 호출 (정렬 없음)
+	 * @return 색인 준비 전이면 false (호출되지 않음)
+	 */
+	public boolean forEachHospitalMatch(String name, NameSearchIndex.MatchConsumer<HospitalWebResponse> consumer) {
+		NameSearchIndex<HospitalWebResponse> index = hospitalIndex;
+		if (index == null) {
+			return false;
+		}
+		index.forEachMatch(name, consumer);
+		return true;
+	}
+
+	/**
+	 * 이름이 일치하는 약국마다 호출 (정렬 없음)
+	 * @return 색인 준비 전이면 false (호출되지 않음)
+	 */
+	public boolean forEachPharmacyMatch(String name, NameSearchIndex.MatchConsumer<PharmacyWebResponse> consumer) {
+		NameSearchIndex<PharmacyWebResponse> index = pharmacyIndex;
+		if (index == null) {
+			return false;
+		}
+		index.forEachMatch(name, consumer);
+		return true;
+	}
+
+	/**
+	 * 이름으로 병원 검색 (색인 준비 전이면 null)
+	 * - 결과는 공유 객체이므로 수정하지 말 것
+	 */
+	public List<HospitalWebResponse> searchHospitals(String name) {
+		NameSearchIndex<HospitalWebResponse> index = hospitalIndex;
+		return index == null ? null : index.search(name);
+	}
+
+	/**
+	 * 이름으로 약국 검색 (색인 준비 전이면 null)
+	 * - 결과는 공유 객체이므로 수정하지 말 것
+	 */
+	public List<PharmacyWebResponse> searchPharmacies(String name) {
+		NameSearchIndex<PharmacyWebResponse> index = pharmacyIndex;
+		return index == null ? null : index.search(name);
+	}
+}
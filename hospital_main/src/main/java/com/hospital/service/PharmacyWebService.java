@@ -1,49 +1,287 @@
 package com.hospital.service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
-import com.hospital.converter.PharmacyConverter;
 import com.hospital.dto.PharmacyWebResponse;
-import com.hospital.entity.Pharmacy;
-import com.hospital.repository.PharmacyApiRepository;
+import com.hospital.dto.WeeklySchedule;
+import com.hospital.repository.PharmacyJdbcRepository;
+import com.hospital.util.CurrentTimeUtils;
 import com.hospital.util.DistanceCalculator;
+import com.hospital.util.TopKSelector;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 약국 위치 검색
+ * - 지도를 0.02도 타일로 나누고 타일별 약국 목록을 캐시 (pharmacyTiles)
+ * - 원 검색은 원을 덮는 타일들을 모아 실제 거리로 필터링
+ * - 캐시에 없는 타일은 한 번의 사각형 쿼리로 한꺼번에 적재
+ */
+@Slf4j
 @Service
 public class PharmacyWebService {
 
-	private final PharmacyApiRepository pharmacyApiRepository;
-	private final PharmacyConverter pharmacyConverter;
+	public static final String TILE_CACHE = "pharmacyTiles";
+
+	// 타일 크기 (도 단위, 위도 기준 약 2.2km)
+	private static final double TILE_SIZE = 0.02;
+	private static final long TILE_COL_OFFSET = 18_000;
+	private static final long TILE_ROW_STRIDE = 100_000;
+
+	// 최근접 검색 시 타일 한 칸의 최소 폭 계산용 (1도 거리의 하한, km)
+	private static final double KM_PER_DEGREE_LOWER_BOUND = 110.0;
+
+	// 원 검색 최대 반경 (km, 요청 값이 더 크면 이 값으로 제한 - 한 요청이 타일 캐시를 밀어내지 않도록)
+	private static final double MAX_RADIUS_KM = 20.0;
+
+	// 최근접 검색 최대 반경 (km, 요청 값이 더 크면 이 값으로 제한)
+	private static final double MAX_NEAREST_RADIUS_KM = 50.0;
+
+	private final PharmacyJdbcRepository pharmacyJdbcRepository;
 	private final DistanceCalculator distanceCalculator;
+	private final CacheManager cacheManager;
 
 	@Autowired
-	public PharmacyWebService(PharmacyApiRepository pharmacyApiRepository, PharmacyConverter pharmacyConverter,
-			DistanceCalculator distanceCalculator) {
+	public PharmacyWebService(PharmacyJdbcRepository pharmacyJdbcRepository, DistanceCalculator distanceCalculator,
+			CacheManager cacheManager) {
 		this.distanceCalculator = distanceCalculator;
-		this.pharmacyConverter = pharmacyConverter;
-		this.pharmacyApiRepository = pharmacyApiRepository;
-
+		this.pharmacyJdbcRepository = pharmacyJdbcRepository;
+		this.cacheManager = cacheManager;
 	}
 
 	public List<PharmacyWebResponse> getPharmacies(double userLat, double userLng, double radius) {
+		return getPharmacies(userLat, userLng, radius, null);
+	}
+
+	/**
+	 * @param radius 반경 (km, MAX_RADIUS_KM까지만 허용)
+	 * @param openAt 이 시각에 운영 중인 약국만 (null이면 운영시간 조건 없음)
+	 */
+	public List<PharmacyWebResponse> getPharmacies(double userLat, double userLng, double radius,
+			LocalDateTime openAt) {
+		radius = Math.max(0, Math.min(radius, MAX_RADIUS_KM));
 		double radiusMeters = radius * 1000;
 
 		double latDegree = radiusMeters / 111320.0;
 		double lonDegree = radiusMeters / (111320.0 * Math.cos(Math.toRadians(userLat)));
 
-		List<Pharmacy> pharmacyEntities = pharmacyApiRepository.findPharmaciesWithinBoundingBox(userLat, // lat
-				userLng, // lon
-				radiusMeters, // radius
-				userLat - latDegree, // minLat
-				userLat + latDegree, // maxLat
-				userLng - lonDegree, // minLon
-				userLng + lonDegree // maxLon
-		);
+		// 원을 덮는 타일 목록
+		long minRow = tileIndex(userLat - latDegree);
+		long maxRow = tileIndex(userLat + latDegree);
+		long minCol = tileIndex(userLng - lonDegree);
+		long maxCol = tileIndex(userLng + lonDegree);
+
+		Map<Long, List<PharmacyWebResponse>> tiles = loadTiles(minRow, maxRow, minCol, maxCol);
+
+		// 실제 거리 필터 + 오늘 운영시간 적용 (타일에는 요일과 무관한 정보만 저장)
+		DayOfWeek today = CurrentTimeUtils.getCurrentDayOfWeek();
+		DayOfWeek openDay = openAt == null ? null : openAt.getDayOfWeek();
+		int openMinute = openAt == null ? 0 : openAt.getHour() * 60 + openAt.getMinute();
+
+		List<PharmacyWebResponse> result = new ArrayList<>();
+		for (List<PharmacyWebResponse> tile : tiles.values()) {
+			for (PharmacyWebResponse pharmacy : tile) {
+				if (openDay != null && (pharmacy.getWeeklySchedule() == null
+						|| !pharmacy.getWeeklySchedule().isOpenAt(openDay, openMinute))) {
+					continue;
+				}
+				double distance = distanceCalculator.calculateDistance(
+						userLat, userLng, pharmacy.getCoordinateY(), pharmacy.getCoordinateX());
+				if (distance <= radius) {
+					result.add(withToday(pharmacy, today));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 해당 시각에 운영 중인 가장 가까운 약국 K개 (거리순)
+	 * - 사용자 타일부터 한 겹씩 넓혀가며 크기 K 힙으로 후보 유지
+	 * - K개가 찼고 다음 겹까지의 최소 거리가 K번째 거리 이상이면 중단
+	 * - 반경은 MAX_NEAREST_RADIUS_KM까지만 허용 (운영 약국이 적은 심야에도 겹 수가 제한되도록)
+	 * @param holiday true면 요일 운영시간 대신 공휴일 운영시간 기준
+	 */
+	public List<PharmacyWebResponse> findNearestOpen(double userLat, double userLng, int k, double maxRadiusKm,
+			LocalDateTime at, boolean holiday) {
+		DayOfWeek day = at.getDayOfWeek();
+		int minuteOfDay = at.getHour() * 60 + at.getMinute();
+		maxRadiusKm = Math.max(0, Math.min(maxRadiusKm, MAX_NEAREST_RADIUS_KM));
+
+		// 경도 방향 타일 폭은 위도가 높을수록 좁아지므로 검색 범위 위쪽 위도 기준으로 계산
+		double edgeLat = Math.min(89.0, Math.abs(userLat) + maxRadiusKm / KM_PER_DEGREE_LOWER_BOUND);
+		double kmPerTile = TILE_SIZE * KM_PER_DEGREE_LOWER_BOUND * Math.cos(Math.toRadians(edgeLat));
+		long maxRing = (long) Math.ceil(maxRadiusKm / kmPerTile) + 1;
+
+		long centerRow = tileIndex(userLat);
+		long centerCol = tileIndex(userLng);
+
+		TopKSelector<NearestCandidate> selector = new TopKSelector<>(k,
+				Comparator.comparingDouble(NearestCandidate::distanceKm));
+
+		for (long ring = 0; ring <= maxRing; ring++) {
+			// 이번 겹의 테두리 타일만 적재/순회 (안쪽 타일은 이전 겹에서 이미 처리)
+			for (List<PharmacyWebResponse> tile : loadRing(centerRow, centerCol, ring).values()) {
+				for (PharmacyWebResponse pharmacy : tile) {
+					WeeklySchedule schedule = pharmacy.getWeeklySchedule();
+					if (schedule == null || !(holiday
+							? schedule.isOpenOnHolidayAt(day, minuteOfDay)
+							: schedule.isOpenAt(day, minuteOfDay))) {
+						continue;
+					}
+					double distance = distanceCalculator.calculateDistance(
+							userLat, userLng, pharmacy.getCoordinateY(), pharmacy.getCoordinateX());
+					if (distance <= maxRadiusKm) {
+						selector.offer(new NearestCandidate(pharmacy, distance));
+					}
+				}
+			}
+
+			// 다음 겹(ring + 1)에 있는 약국은 최소 ring칸 이상 떨어져 있음
+			double nextRingMinKm = ring * kmPerTile;
+			if (nextRingMinKm > maxRadiusKm) {
+				break;
+			}
+			if (selector.isFull() && nextRingMinKm >= selector.worst().distanceKm()) {
+				break;
+			}
+		}
+
+		List<PharmacyWebResponse> result = new ArrayList<>(selector.size());
+		for (NearestCandidate candidate : selector.toSortedList()) {
+			result.add(todayBuilder(candidate.pharmacy(), day, holiday)
+					.distance(candidate.distanceKm())
+					.build());
+		}
+		return result;
+	}
+
+	private record NearestCandidate(PharmacyWebResponse pharmacy, double distanceKm) {
+	}
+
+	/**
+	 * 약국 데이터 수집 완료 시 타일 캐시 전체 무효화
+	 */
+	public void evictTileCache() {
+		Cache cache = cacheManager.getCache(TILE_CACHE);
+		if (cache != null) {
+			cache.clear();
+			log.info("약국 타일 캐시 초기화");
+		}
+	}
+
+	// 중심에서 ring번째 겹의 테두리 타일 - 위/아래 변과 좌/우 변을 네 개의 띠로 나눠 적재
+	// (사각형 전체로 요청하면 빠진 타일을 감싸는 사각형이 안쪽 타일까지 다시 조회하게 됨)
+	private Map<Long, List<PharmacyWebResponse>> loadRing(long centerRow, long centerCol, long ring) {
+		if (ring == 0) {
+			return loadTiles(centerRow, centerRow, centerCol, centerCol);
+		}
+		long minRow = centerRow - ring, maxRow = centerRow + ring;
+		long minCol = centerCol - ring, maxCol = centerCol + ring;
+
+		Map<Long, List<PharmacyWebResponse>> tiles = loadTiles(minRow, minRow, minCol, maxCol);
+		tiles.putAll(loadTiles(maxRow, maxRow, minCol, maxCol));
+		tiles.putAll(loadTiles(minRow + 1, maxRow - 1, minCol, minCol));
+		tiles.putAll(loadTiles(minRow + 1, maxRow - 1, maxCol, maxCol));
+		return tiles;
+	}
+
+	// 타일 범위의 약국 목록 (캐시에 없는 타일은 DB에서 한 번에 적재)
+	@SuppressWarnings("unchecked")
+	private Map<Long, List<PharmacyWebResponse>> loadTiles(long minRow, long maxRow, long minCol, long maxCol) {
+		Cache cache = cacheManager.getCache(TILE_CACHE);
+		Map<Long, List<PharmacyWebResponse>> tiles = new HashMap<>();
+		Set<Long> missing = new LinkedHashSet<>();
+
+		long missingMinRow = Long.MAX_VALUE, missingMaxRow = Long.MIN_VALUE;
+		long missingMinCol = Long.MAX_VALUE, missingMaxCol = Long.MIN_VALUE;
+
+		for (long row = minRow; row <= maxRow; row++) {
+			for (long col = minCol; col <= maxCol; col++) {
+				long key = tileKey(row, col);
+				Cache.ValueWrapper cached = cache.get(key);
+				if (cached != null) {
+					tiles.put(key, (List<PharmacyWebResponse>) cached.get());
+					continue;
+				}
+				missing.add(key);
+				missingMinRow = Math.min(missingMinRow, row);
+				missingMaxRow = Math.max(missingMaxRow, row);
+				missingMinCol = Math.min(missingMinCol, col);
+				missingMaxCol = Math.max(missingMaxCol, col);
+			}
+		}
+
+		if (missing.isEmpty()) {
+			return tiles;
+		}
+
+		// 빠진 타일을 감싸는 사각형 한 번만 조회
+		List<PharmacyWebResponse> pharmacies = pharmacyJdbcRepository.findInBox(
+				missingMinRow * TILE_SIZE, (missingMaxRow + 1) * TILE_SIZE,
+				missingMinCol * TILE_SIZE, (missingMaxCol + 1) * TILE_SIZE);
+
+		Map<Long, List<PharmacyWebResponse>> loaded = new HashMap<>();
+		for (PharmacyWebResponse pharmacy : pharmacies) {
+			if (pharmacy.getCoordinateY() == null || pharmacy.getCoordinateX() == null) {
+				continue;
+			}
+			long key = tileKey(tileIndex(pharmacy.getCoordinateY()), tileIndex(pharmacy.getCoordinateX()));
+			if (missing.contains(key)) {
+				loaded.computeIfAbsent(key, k -> new ArrayList<>()).add(pharmacy);
+			}
+		}
+
+		// 약국이 없는 타일도 빈 목록으로 캐시
+		for (Long key : missing) {
+			List<PharmacyWebResponse> tile = List.copyOf(loaded.getOrDefault(key, List.of()));
+			cache.put(key, tile);
+			tiles.put(key, tile);
+		}
+
+		log.debug("약국 타일 적재: {}개 타일, {}건", missing.size(), pharmacies.size());
+		return tiles;
+	}
+
+	// 캐시된 템플릿은 공유되므로 오늘 운영시간을 넣은 복사본을 반환
+	private PharmacyWebResponse withToday(PharmacyWebResponse pharmacy, DayOfWeek today) {
+		return todayBuilder(pharmacy, today, false).build();
+	}
+
+	// 공휴일이면 공휴일 운영시간을 todayOpen/todayClose로 사용
+	private PharmacyWebResponse.PharmacyWebResponseBuilder todayBuilder(PharmacyWebResponse pharmacy,
+			DayOfWeek today, boolean holiday) {
+		PharmacyWebResponse.PharmacyWebResponseBuilder builder = pharmacy.toBuilder();
+		WeeklySchedule schedule = pharmacy.getWeeklySchedule();
+		if (schedule == null) {
+			return builder;
+		}
+		if (holiday && schedule.hasHoliday()) {
+			return builder.todayOpen(WeeklySchedule.format(schedule.holidayOpen()))
+					.todayClose(WeeklySchedule.format(schedule.holidayClose()));
+		}
+		return builder.todayOpen(schedule.formattedOpen(today))
+				.todayClose(schedule.formattedClose(today));
+	}
+
+	private static long tileIndex(double degree) {
+		return (long) Math.floor(degree / TILE_SIZE);
+	}
 
-		return pharmacyEntities.stream().map(pharmacyConverter::convertToDTO).collect(Collectors.toList());
+	private static long tileKey(long row, long col) {
+		return row * TILE_ROW_STRIDE + (col + TILE_COL_OFFSET);
 	}
 }
@@ -19,13 +19,15 @@ public class ProDocApiService {
 	private final HospitalMainApiRepository hospitalMainApiRepository;
 	private final ProDocAsyncRunner proDocAsyncRunner;
 	private final ProDocApiRepository proDocApiRepository;
+	private final HospitalSnapshotService hospitalSnapshotService;
 
 	@Autowired
 	public ProDocApiService(HospitalMainApiRepository hospitalMainApiRepository, ProDocAsyncRunner proDocAsyncRunner,
-			ProDocApiRepository proDocApiRepository) {
+			ProDocApiRepository proDocApiRepository, HospitalSnapshotService hospitalSnapshotService) {
 		this.hospitalMainApiRepository = hospitalMainApiRepository;
 		this.proDocAsyncRunner = proDocAsyncRunner;
 		this.proDocApiRepository = proDocApiRepository;
+		this.hospitalSnapshotService = hospitalSnapshotService;
 	}
 
 	public int updateProDocs() {
@@ -36,13 +38,20 @@ public class ProDocApiService {
 			if (hospitalCodes.isEmpty()) {
 				throw new IllegalStateException("병원 기본정보가 없어 전문의 정보를 수집할 수 없습니다");
 			}
-			//기존데이터 삭제
-			proDocApiRepository.deleteAllInBatch();
-
-			// 비동기 상태 초기화
-			proDocAsyncRunner.resetCounter();
-
-			proDocAsyncRunner.runBatchAsync(hospitalCodes);
+			// 수집이 끝날 때까지 스냅샷 재생성을 미룸 (종료는 Runner에서 처리)
+			hospitalSnapshotService.ingestStarted(1);
+			try {
+				//기존데이터 삭제
+				proDocApiRepository.deleteAllInBatch();
+
+				// 비동기 상태 초기화
+				proDocAsyncRunner.resetCounter();
+
+				proDocAsyncRunner.runBatchAsync(hospitalCodes);
+			} catch (RuntimeException e) {
+				hospitalSnapshotService.ingestFinished(1);
+				throw e;
+			}
 
 			return hospitalCodes.size();
 
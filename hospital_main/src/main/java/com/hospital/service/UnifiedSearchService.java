@@ -1,66 +1,510 @@
 package com.hospital.service;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntFunction;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.hospital.converter.HospitalConverter;
-import com.hospital.converter.PharmacyConverter;
+import com.hospital.dto.AutocompleteSuggestion;
+import com.hospital.dto.HospitalWebResponse;
+import com.hospital.dto.NameMatch;
+import com.hospital.dto.PharmacyWebResponse;
+import com.hospital.dto.UnifiedSearchPage;
 import com.hospital.dto.UnifiedSearchResponse;
-import com.hospital.entity.HospitalMain;
-import com.hospital.entity.Pharmacy;
-import com.hospital.repository.HospitalMainApiRepository;
-import com.hospital.repository.PharmacyApiRepository;
+import com.hospital.dto.WeeklySchedule;
+import com.hospital.index.AutocompleteIndex;
+import com.hospital.index.NameSearchIndex;
+import com.hospital.repository.HospitalJdbcRepository;
+import com.hospital.repository.PharmacyJdbcRepository;
+import com.hospital.util.CurrentTimeUtils;
+import com.hospital.util.DistanceCalculator;
+import com.hospital.util.TopKSelector;
 
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 병원/약국 통합 이름 검색
+ * - 출처(병원, 약국)별 검색을 가상 스레드에서 동시에 실행하고 일치 점수순으로 합쳐 page/size로 반환
+ * - 출처마다 응답 기한이 있고, 기한을 넘기거나 실패한 출처는 빼고 부분 결과로 응답 (partial)
+ *   (DB 조회는 기한에 맞춘 쿼리 타임아웃으로 DB에서도 중단하고, 동시 실행 수를 MAX_CONCURRENT_DB_QUERIES로 제한)
+ * - 사용자 위치가 있으면 (거리 km + 일치 등급 x TEXT_RANK_WEIGHT_KM)으로 순위를 매기고 상위 K개만 선택 (전체 정렬 없음)
+ * - 메모리 이름 색인(NameSearchService)으로 검색하고, 색인 준비 전에만 DB 조회로 대체
+ *   (DB 조회도 코드 목록을 먼저 순위순으로 구하고 해당 페이지만 채움)
+ * - 위치 없는 검색 결과는 정규화 검색어 기준으로 캐시 (unifiedSearch, 빈 결과 포함, 부분 결과 제외)
+ */
+@Slf4j
 @Service
 public class UnifiedSearchService {
 
-	private final HospitalMainApiRepository hospitalMainApiRepository;
-	private final PharmacyApiRepository pharmacyApiRepository;
-	private final HospitalConverter hospitalConverter;
-	private final PharmacyConverter pharmacyConverter;
+	public static final String SEARCH_CACHE = "unifiedSearch";
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	// 최대 페이지 번호 (0부터, 이보다 깊은 페이지는 빈 결과 - offset/limit 계산이 int 범위를 넘지 않도록)
+	public static final int MAX_PAGE = 500;
+
+	// 위치 기준 순위로 보여주는 최대 건수 (출처마다 이만큼의 후보 힙을 유지하므로 더 깊은 페이지는 빈 결과)
+	public static final int MAX_LOCATION_RESULTS = 1000;
+
+	// 출처별 응답 기한 (요청 시작 기준, ms)
+	private static final long HOSPITAL_DEADLINE_MS = 1500;
+	private static final long PHARMACY_DEADLINE_MS = 1000;
+
+	// DB 조회(색인 준비 전 대체 경로, 페이지 채우기) 동시 실행 수 - 커넥션 풀(최대 50)을 다른 요청과 나눠 쓰도록 제한
+	private static final int MAX_CONCURRENT_DB_QUERIES = 16;
+
+	// 위치 기준 순위에서 일치 등급(정확히/앞부분/중간) 한 단계의 거리 환산값 (km)
+	private static final double TEXT_RANK_WEIGHT_KM = 5.0;
+
+	// 좌표가 없는 병원/약국의 거리 (위치 기준 순위에서 맨 뒤로, 색인/DB 경로 공통)
+	private static final double UNKNOWN_DISTANCE_KM = 1000.0;
+
+	// 점수가 같으면 출처 순서(병원 -> 약국), 출처 안에서는 원래 순서
+	private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator.comparingDouble(Candidate::score)
+			.thenComparingInt(Candidate::source)
+			.thenComparingInt(Candidate::order);
+
+	private final HospitalJdbcRepository hospitalJdbcRepository;
+	private final PharmacyJdbcRepository pharmacyJdbcRepository;
+	private final NameSearchService nameSearchService;
+	private final DistanceCalculator distanceCalculator;
+	private final ExecutorService searchExecutor;
+	private final CacheManager cacheManager;
+	private final List<SearchSource> sources;
+	private final Semaphore dbPermits = new Semaphore(MAX_CONCURRENT_DB_QUERIES);
 
 	@Autowired
-	public UnifiedSearchService(HospitalMainApiRepository hospitalMainApiRepository,
-			PharmacyApiRepository pharmacyApiRepository, HospitalConverter hospitalConverter,
-			PharmacyConverter pharmacyConverter) {
+	public UnifiedSearchService(HospitalJdbcRepository hospitalJdbcRepository,
+			PharmacyJdbcRepository pharmacyJdbcRepository, NameSearchService nameSearchService,
+			DistanceCalculator distanceCalculator, @Qualifier("searchExecutor") ExecutorService searchExecutor,
+			CacheManager cacheManager) {
 
-		this.hospitalMainApiRepository = hospitalMainApiRepository;
-		this.pharmacyApiRepository = pharmacyApiRepository;
-		this.hospitalConverter = hospitalConverter;
-		this.pharmacyConverter = pharmacyConverter;
+		this.hospitalJdbcRepository = hospitalJdbcRepository;
+		this.pharmacyJdbcRepository = pharmacyJdbcRepository;
+		this.nameSearchService = nameSearchService;
+		this.distanceCalculator = distanceCalculator;
+		this.searchExecutor = searchExecutor;
+		this.cacheManager = cacheManager;
+		this.sources = List.of(new HospitalSource(), new PharmacySource());
 	}
 
-	@Transactional(readOnly = true)
-	public List<UnifiedSearchResponse> search(String searchName) {
+	/**
+	 * @param page 0부터 시작하는 페이지 번호 (MAX_PAGE 초과 시, 위치 기준이면 MAX_LOCATION_RESULTS 이후 빈 결과)
+	 * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+	 * @param userLat 사용자 위도 (userLng와 함께 있으면 거리도 순위에 반영)
+	 */
+	public UnifiedSearchPage search(String searchName, int page, int size, Double userLat, Double userLng) {
 
 		String input = searchName.replace(" ", "");
 
-		if (input.length() < 3) {
-			return Collections.emptyList();
+		if (input.length() < 3 || page > MAX_PAGE) {
+			return new UnifiedSearchPage(Collections.emptyList(), false, false);
 		}
 
-		List<HospitalMain> hospitals = hospitalMainApiRepository.findHospitalsByName(searchName);
-		List<UnifiedSearchResponse> hospitalsResult = hospitals.stream()
-				.map(hospitalConverter::convertToDTO)
-				.map(UnifiedSearchResponse::fromHospital)
-				.collect(Collectors.toList());
+		int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		int pageIndex = Math.max(0, page);
+		String normalized = NameSearchIndex.normalize(searchName);
 
-		List<Pharmacy> pharmacies = pharmacyApiRepository.findPharmacyByName(searchName);
-		List<UnifiedSearchResponse> pharmaciesResult = pharmacies.stream()
-				.map(pharmacyConverter::convertToDTO)
-				.map(UnifiedSearchResponse::fromPharmacy)
-				.collect(Collectors.toList());
+		// 위치 기준 순위는 좌표마다 결과가 달라 캐시하지 않음
+		if (userLat != null && userLng != null) {
+			if (pageIndex * pageSize >= MAX_LOCATION_RESULTS) {
+				return new UnifiedSearchPage(Collections.emptyList(), false, false);
+			}
+			return searchSources(searchName, input, normalized, pageIndex, pageSize, new Location(userLat, userLng));
+		}
 
-		List<UnifiedSearchResponse> result = new java.util.ArrayList<>();
-		result.addAll(hospitalsResult);
-		result.addAll(pharmaciesResult);
+		// 오늘 운영시간이 응답에 들어가므로 요일도 키에 포함
+		Cache cache = cacheManager.getCache(SEARCH_CACHE);
+		String key = CurrentTimeUtils.getCurrentDayOfWeek().getValue() + ":" + pageIndex + ":" + pageSize + ":"
+				+ normalized;
+		Cache.ValueWrapper cached = cache.get(key);
+		if (cached != null) {
+			return (UnifiedSearchPage) cached.get();
+		}
 
+		UnifiedSearchPage result = searchSources(searchName, input, normalized, pageIndex, pageSize, null);
+		// 부분 결과는 기한 초과 때문에 빠진 항목이 있으므로 캐시하지 않음
+		if (!result.isPartial()) {
+			cache.put(key, result);
+		}
 		return result;
+	}
+
+	/**
+	 * 통합 검색 캐시 전체 무효화 (병원 스냅샷 재생성, 약국 수집 완료 시)
+	 */
+	public void evictSearchCache() {
+		Cache cache = cacheManager.getCache(SEARCH_CACHE);
+		if (cache != null) {
+			cache.clear();
+			log.info("통합 검색 캐시 초기화");
+		}
+	}
+
+	private UnifiedSearchPage searchSources(String searchName, String input, String normalized, int pageIndex,
+			int pageSize, Location location) {
+
+		long startTime = System.currentTimeMillis();
+		int offset = pageIndex * pageSize;
+
+		// 1단계: 출처별로 페이지 끝까지의 후보(+다음 페이지 확인용 1건)를 동시에 조회
+		int limit = offset + pageSize + 1;
+		List<Future<List<Candidate>>> found = new ArrayList<>(sources.size());
+		for (SearchSource source : sources) {
+			long deadline = startTime + source.deadlineMillis();
+			found.add(searchExecutor.submit(() -> source.find(searchName, input, normalized, location, limit, deadline)));
+		}
+
+		boolean partial = false;
+		List<Candidate> merged = new ArrayList<>();
+		for (int i = 0; i < sources.size(); i++) {
+			List<Candidate> candidates = await(sources.get(i), found.get(i), startTime);
+			if (candidates == null) {
+				partial = true;
+			} else {
+				merged.addAll(candidates);
+			}
+		}
+		merged.sort(CANDIDATE_ORDER);
+
+		int maxResults = location != null ? MAX_LOCATION_RESULTS : (MAX_PAGE + 1) * pageSize;
+		boolean hasNext = offset + pageSize < maxResults && merged.size() > offset + pageSize;
+		List<Candidate> pageCandidates = merged.subList(Math.min(offset, merged.size()),
+				Math.min(offset + pageSize, merged.size()));
+
+		// 2단계: 해당 페이지 후보만 출처별로 채움 (DB 조회가 필요한 출처만 별도 스레드에서)
+		List<List<Candidate>> bySource = new ArrayList<>(sources.size());
+		List<Future<List<UnifiedSearchResponse>>> hydrated = new ArrayList<>(sources.size());
+		for (int i = 0; i < sources.size(); i++) {
+			SearchSource source = sources.get(i);
+			int sourceIndex = i;
+			List<Candidate> candidates = pageCandidates.stream().filter(c -> c.source() == sourceIndex).toList();
+			bySource.add(candidates);
+			long deadline = startTime + source.deadlineMillis();
+			hydrated.add(candidates.isEmpty() ? null : searchExecutor.submit(() -> source.hydrate(candidates, deadline)));
+		}
+
+		Map<Candidate, UnifiedSearchResponse> responses = new IdentityHashMap<>();
+		for (int i = 0; i < sources.size(); i++) {
+			if (hydrated.get(i) == null) {
+				continue;
+			}
+			List<UnifiedSearchResponse> items = await(sources.get(i), hydrated.get(i), startTime);
+			if (items == null) {
+				partial = true;
+				continue;
+			}
+			for (int j = 0; j < items.size(); j++) {
+				if (items.get(j) != null) {
+					responses.put(bySource.get(i).get(j), items.get(j));
+				}
+			}
+		}
+
+		DayOfWeek today = CurrentTimeUtils.getCurrentDayOfWeek();
+		List<UnifiedSearchResponse> result = new ArrayList<>(pageCandidates.size());
+		for (Candidate candidate : pageCandidates) {
+			UnifiedSearchResponse response = responses.get(candidate);
+			if (response != null) {
+				result.add(withToday(response, today));
+			}
+		}
+
+		if (partial) {
+			log.warn("통합 검색 부분 결과 반환 - 검색어: {}, {}건, {}ms", searchName, result.size(),
+					System.currentTimeMillis() - startTime);
+		}
+		// 캐시된 페이지는 여러 요청이 공유하므로 수정할 수 없는 목록으로 반환
+		return new UnifiedSearchPage(Collections.unmodifiableList(result), hasNext, partial);
+	}
+
+	/**
+	 * 이름 앞부분 / 초성 자동완성 (1글자부터 가능)
+	 */
+	public List<AutocompleteSuggestion> autocomplete(String prefix, int limit) {
+		if (prefix == null || prefix.isBlank()) {
+			return Collections.emptyList();
+		}
+		return nameSearchService.autocomplete(prefix, Math.max(1, Math.min(limit, AutocompleteIndex.MAX_SUGGESTIONS)));
+	}
+
+	// 출처 기한까지 대기 (기한 초과/실패 시 취소하고 null)
+	private <T> T await(SearchSource source, Future<T> future, long startTime) {
+		long remaining = startTime + source.deadlineMillis() - System.currentTimeMillis();
+		try {
+			return future.get(Math.max(0, remaining), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			log.warn("통합 검색 {} 출처 응답 기한 초과 ({}ms)", source.name(), source.deadlineMillis());
+		} catch (ExecutionException e) {
+			log.warn("통합 검색 {} 출처 조회 실패: {}", source.name(), e.getCause().getMessage(), e.getCause());
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
+	/**
+	 * DB 조회 실행 (동시 실행 수 제한)
+	 * - 출처 기한 안에 자리가 나지 않으면 실패로 처리 (해당 출처는 부분 결과에서 빠짐)
+	 * - 쿼리 타임아웃은 남은 기한을 초 단위로 올림 (JDBC 타임아웃은 초 단위)
+	 *   future.cancel()로는 실행 중인 문장이 멈추지 않으므로 DB에서 중단되도록 함
+	 */
+	private <T> T queryDb(long deadline, IntFunction<T> query) {
+		try {
+			if (!dbPermits.tryAcquire(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException("DB 조회 대기 기한 초과");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("DB 조회 대기 중 중단", e);
+		}
+		try {
+			long remaining = Math.max(1, deadline - System.currentTimeMillis());
+			return query.apply((int) Math.ceil(remaining / 1000.0));
+		} finally {
+			dbPermits.release();
+		}
+	}
+
+	// 위치 기준 점수 (낮을수록 우선)
+	private static double combinedScore(int textScore, double distanceKm) {
+		return distanceKm + TEXT_RANK_WEIGHT_KM * NameSearchIndex.matchRank(textScore);
+	}
+
+	private double distanceTo(Location location, Double latitude, Double longitude) {
+		if (latitude == null || longitude == null) {
+			return UNKNOWN_DISTANCE_KM;
+		}
+		return distanceCalculator.calculateDistance(location.lat(), location.lng(), latitude, longitude);
+	}
+
+	private UnifiedSearchResponse withToday(UnifiedSearchResponse response, DayOfWeek today) {
+		WeeklySchedule schedule = response.getWeeklySchedule();
+		if (schedule != null) {
+			response.setTodayOpen(schedule.formattedOpen(today));
+			response.setTodayClose(schedule.formattedClose(today));
+		}
+		return response;
+	}
+
+	/**
+	 * 검색 후보 (item이 있으면 색인 객체, 없으면 2단계에서 DB로 채움)
+	 */
+	private record Candidate(double score, int source, int order, String code, Object item) {
+	}
+
+	private record Location(double lat, double lng) {
+	}
+
+	/**
+	 * 통합 검색 출처
+	 */
+	private interface SearchSource {
+
+		String name();
+
+		long deadlineMillis();
+
+		// 순위순 후보 최대 limit개 (location이 null이면 이름 일치 점수만 사용, deadline: 응답 기한 시각 ms)
+		List<Candidate> find(String searchName, String input, String normalized, Location location, int limit,
+				long deadline);
+
+		// 후보와 같은 순서의 응답 목록 (찾지 못한 항목은 null)
+		List<UnifiedSearchResponse> hydrate(List<Candidate> candidates, long deadline);
+	}
+
+	private final class HospitalSource implements SearchSource {
+
+		private static final int SOURCE = 0;
+
+		@Override
+		public String name() {
+			return "병원";
+		}
+
+		@Override
+		public long deadlineMillis() {
+			return HOSPITAL_DEADLINE_MS;
+		}
+
+		@Override
+		public List<Candidate> find(String searchName, String input, String normalized, Location location,
+				int limit, long deadline) {
+			if (location != null) {
+				return findNear(searchName, input, normalized, location, limit, deadline);
+			}
+
+			List<HospitalWebResponse> indexed = nameSearchService.searchHospitals(searchName);
+			List<Candidate> candidates = new ArrayList<>();
+			if (indexed != null) {
+				for (int i = 0; i < indexed.size() && i < limit; i++) {
+					HospitalWebResponse hospital = indexed.get(i);
+					candidates.add(new Candidate(score(hospital.getHospitalName(), normalized), SOURCE, i,
+							hospital.getHospitalCode(), hospital));
+				}
+				return candidates;
+			}
+
+			List<NameMatch> matches = queryDb(deadline,
+					timeout -> hospitalJdbcRepository.findNameMatches(input, limit, timeout));
+			for (int i = 0; i < matches.size(); i++) {
+				candidates.add(new Candidate(score(matches.get(i).name(), normalized), SOURCE, i,
+						matches.get(i).code(), null));
+			}
+			return candidates;
+		}
+
+		// 일치하는 병원 전체를 훑되 크기 limit 힙으로 상위만 유지
+		private List<Candidate> findNear(String searchName, String input, String normalized, Location location,
+				int limit, long deadline) {
+			TopKSelector<Candidate> selector = new TopKSelector<>(limit, CANDIDATE_ORDER);
+			boolean indexed = nameSearchService.forEachHospitalMatch(searchName, (hospital, position, score) ->
+					selector.offer(new Candidate(
+							combinedScore(score, distanceTo(location, hospital.getCoordinateY(), hospital.getCoordinateX())),
+							SOURCE, position, hospital.getHospitalCode(), hospital)));
+			if (indexed) {
+				return selector.toSortedList();
+			}
+
+			List<NameMatch> matches = queryDb(deadline, timeout -> hospitalJdbcRepository.findNameMatchesNear(
+					input, location.lat(), location.lng(), TEXT_RANK_WEIGHT_KM, UNKNOWN_DISTANCE_KM, limit, timeout));
+			List<Candidate> candidates = new ArrayList<>(matches.size());
+			for (int i = 0; i < matches.size(); i++) {
+				NameMatch match = matches.get(i);
+				candidates.add(new Candidate(combinedScore(score(match.name(), normalized), match.distanceKm()),
+						SOURCE, i, match.code(), null));
+			}
+			return candidates;
+		}
+
+		@Override
+		public List<UnifiedSearchResponse> hydrate(List<Candidate> candidates, long deadline) {
+			Map<String, HospitalWebResponse> loaded = new HashMap<>();
+			List<String> missing = candidates.stream().filter(c -> c.item() == null).map(Candidate::code).toList();
+			List<HospitalWebResponse> hospitals = missing.isEmpty() ? List.of()
+					: queryDb(deadline, timeout -> hospitalJdbcRepository.findByCodes(missing, timeout));
+			for (HospitalWebResponse hospital : hospitals) {
+				loaded.put(hospital.getHospitalCode(), hospital);
+			}
+
+			List<UnifiedSearchResponse> responses = new ArrayList<>(candidates.size());
+			for (Candidate candidate : candidates) {
+				HospitalWebResponse hospital = candidate.item() != null
+						? (HospitalWebResponse) candidate.item()
+						: loaded.get(candidate.code());
+				// 색인 객체는 공유되므로 새 응답 객체로 변환
+				responses.add(hospital == null ? null : UnifiedSearchResponse.fromHospital(hospital));
+			}
+			return responses;
+		}
+	}
+
+	private final class PharmacySource implements SearchSource {
+
+		private static final int SOURCE = 1;
+
+		@Override
+		public String name() {
+			return "약국";
+		}
+
+		@Override
+		public long deadlineMillis() {
+			return PHARMACY_DEADLINE_MS;
+		}
+
+		@Override
+		public List<Candidate> find(String searchName, String input, String normalized, Location location,
+				int limit, long deadline) {
+			if (location != null) {
+				return findNear(searchName, input, normalized, location, limit, deadline);
+			}
+
+			List<PharmacyWebResponse> indexed = nameSearchService.searchPharmacies(searchName);
+			List<Candidate> candidates = new ArrayList<>();
+			if (indexed != null) {
+				for (int i = 0; i < indexed.size() && i < limit; i++) {
+					PharmacyWebResponse pharmacy = indexed.get(i);
+					candidates.add(new Candidate(score(pharmacy.getPharmacyName(), normalized), SOURCE, i,
+							pharmacy.getPharmacyCode(), pharmacy));
+				}
+				return candidates;
+			}
+
+			List<NameMatch> matches = queryDb(deadline,
+					timeout -> pharmacyJdbcRepository.findNameMatches(input, limit, timeout));
+			for (int i = 0; i < matches.size(); i++) {
+				candidates.add(new Candidate(score(matches.get(i).name(), normalized), SOURCE, i,
+						matches.get(i).code(), null));
+			}
+			return candidates;
+		}
+
+		// 일치하는 약국 전체를 훑되 크기 limit 힙으로 상위만 유지
+		private List<Candidate> findNear(String searchName, String input, String normalized, Location location,
+				int limit, long deadline) {
+			TopKSelector<Candidate> selector = new TopKSelector<>(limit, CANDIDATE_ORDER);
+			boolean indexed = nameSearchService.forEachPharmacyMatch(searchName, (pharmacy, position, score) ->
+					selector.offer(new Candidate(
+							combinedScore(score, distanceTo(location, pharmacy.getCoordinateY(), pharmacy.getCoordinateX())),
+							SOURCE, position, pharmacy.getPharmacyCode(), pharmacy)));
+			if (indexed) {
+				return selector.toSortedList();
+			}
+
+			List<NameMatch> matches = queryDb(deadline, timeout -> pharmacyJdbcRepository.findNameMatchesNear(
+					input, location.lat(), location.lng(), TEXT_RANK_WEIGHT_KM, UNKNOWN_DISTANCE_KM, limit, timeout));
+			List<Candidate> candidates = new ArrayList<>(matches.size());
+			for (int i = 0; i < matches.size(); i++) {
+				NameMatch match = matches.get(i);
+				candidates.add(new Candidate(combinedScore(score(match.name(), normalized), match.distanceKm()),
+						SOURCE, i, match.code(), null));
+			}
+			return candidates;
+		}
+
+		@Override
+		public List<UnifiedSearchResponse> hydrate(List<Candidate> candidates, long deadline) {
+			Map<String, PharmacyWebResponse> loaded = new HashMap<>();
+			List<String> missing = candidates.stream().filter(c -> c.item() == null).map(Candidate::code).toList();
+			List<PharmacyWebResponse> pharmacies = missing.isEmpty() ? List.of()
+					: queryDb(deadline, timeout -> pharmacyJdbcRepository.findByCodes(missing, timeout));
+			for (PharmacyWebResponse pharmacy : pharmacies) {
+				loaded.put(pharmacy.getPharmacyCode(), pharmacy);
+			}
+
+			List<UnifiedSearchResponse> responses = new ArrayList<>(candidates.size());
+			for (Candidate candidate : candidates) {
+				PharmacyWebResponse pharmacy = candidate.item() != null
+						? (PharmacyWebResponse) candidate.item()
+						: loaded.get(candidate.code());
+				responses.add(pharmacy == null ? null : UnifiedSearchResponse.fromPharmacy(pharmacy));
+			}
+			return responses;
+		}
+	}
 
+	private static int score(String name, String normalizedQuery) {
+		return NameSearchIndex.matchScore(NameSearchIndex.normalize(name), normalizedQuery);
 	}
 }
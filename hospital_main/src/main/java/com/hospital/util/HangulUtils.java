@@ -0,0 +1,38 @@
+package com.hospital.util;
+
+/**
+ * 한글 처리 유틸
+ */
+public class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    // 초성 순서의 호환용 자모 (ㄱ ㄲ ㄴ ㄷ ㄸ ㄹ ㅁ ㅂ ㅃ ㅅ ㅆ ㅇ ㅈ ㅉ ㅊ ㅋ ㅌ ㅍ ㅎ)
+    private static final char[] CHOSUNG = {
+        'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+        'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    /**
+     * 초성 변환 - 완성형 한글은 초성으로, 나머지 글자는 그대로 (예: "서울대병원" -> "ㅅㅇㄷㅂㅇ")
+     */
+    public static String chosung(String text) {
+        if (text == null) {
+            return "";
+        }
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                chars[i] = CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG];
+            }
+        }
+        return new String(chars);
+    }
+
+    private HangulUtils() {
+        // 인스턴스화를 막기 위한 private 생성자
+    }
+}
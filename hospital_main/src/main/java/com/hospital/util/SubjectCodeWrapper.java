@@ -1,7 +1,10 @@
 package com.hospital.util;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeSet;
 
 import org.springframework.stereotype.Component;
 
@@ -9,6 +12,9 @@ import org.springframework.stereotype.Component;
 public class SubjectCodeWrapper {
     
     private static final Map<String, String> SUBJECT_CODE_TO_DEPARTMENT = new HashMap<>();
+
+    // 진료과명 -> 비트마스크 (과목코드 정렬 순서가 비트 위치, long 하나로 표현하므로 코드는 최대 64개)
+    private static final Map<String, Long> DEPARTMENT_TO_MASK = new HashMap<>();
     
     static {
         // 일반의
@@ -79,6 +85,17 @@ public class SubjectCodeWrapper {
         SUBJECT_CODE_TO_DEPARTMENT.put("88", "한방응급");
         SUBJECT_CODE_TO_DEPARTMENT.put("89", "한방응급");
         SUBJECT_CODE_TO_DEPARTMENT.put("90", "한방소계");
+
+        int bit = 0;
+        for (String code : new TreeSet<>(SUBJECT_CODE_TO_DEPARTMENT.keySet())) {
+            if (bit >= Long.SIZE) {
+                // 비트가 0번으로 돌아가 다른 진료과와 겹치지 않도록 클래스 로딩 시 실패
+                throw new IllegalStateException("과목코드가 " + Long.SIZE + "개를 넘어 비트마스크로 표현할 수 없습니다: " + code);
+            }
+            // 같은 이름의 코드가 여럿이면(한방응급) 비트를 합쳐서 저장
+            DEPARTMENT_TO_MASK.merge(SUBJECT_CODE_TO_DEPARTMENT.get(code), 1L << bit, (a, b) -> a | b);
+            bit++;
+        }
     }
     
     /**
@@ -87,4 +104,31 @@ public class SubjectCodeWrapper {
     public String getDepartmentName(String subjectCode) {
         return SUBJECT_CODE_TO_DEPARTMENT.getOrDefault(subjectCode, "알 수 없는 과목");
     }
-}
\ No newline at end of file
+
+    /**
+     * 진료과명 목록을 비트마스크로 변환 (알 수 없는 이름은 무시)
+     */
+    public static long departmentMask(Collection<String> departmentNames) {
+        long mask = 0L;
+        if (departmentNames != null) {
+            for (String name : departmentNames) {
+                mask |= DEPARTMENT_TO_MASK.getOrDefault(name, 0L);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 진료과명 -> 비트마스크 전체 (DB에서 마스크를 계산할 때 사용)
+     */
+    public static Map<String, Long> departmentMasks() {
+        return Collections.unmodifiableMap(DEPARTMENT_TO_MASK);
+    }
+
+    /**
+     * 모든 진료과명이 비트마스크로 표현 가능한지 여부
+     */
+    public static boolean isMaskable(Collection<String> departmentNames) {
+        return departmentNames.stream().allMatch(DEPARTMENT_TO_MASK::containsKey);
+    }
+}
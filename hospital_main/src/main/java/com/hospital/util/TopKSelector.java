@@ -0,0 +1,69 @@
+package com.hospital.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 상위 K개 선택기 (크기 제한 힙)
+ * - comparator 기준으로 "앞선" K개만 유지
+ * - 내부는 가장 뒤처진 원소가 맨 위에 오는 힙이라 offer는 O(log K)
+ * - 힙은 K 크기로 미리 잡지 않고 실제 후보 수만큼만 늘어남 (K가 커도 메모리는 후보 수에 비례)
+ */
+public class TopKSelector<T> {
+
+	private final int k;
+	private final Comparator<? super T> comparator;
+	private final PriorityQueue<T> heap;
+
+	public TopKSelector(int k, Comparator<? super T> comparator) {
+		if (k <= 0) {
+			throw new IllegalArgumentException("k는 1 이상이어야 합니다: " + k);
+		}
+		this.k = k;
+		this.comparator = comparator;
+		this.heap = new PriorityQueue<>(comparator.reversed());
+	}
+
+	/**
+	 * 후보 추가
+	 * @return 상위 K개에 포함되면 true
+	 */
+	public boolean offer(T candidate) {
+		if (heap.size() < k) {
+			heap.add(candidate);
+			return true;
+		}
+		if (comparator.compare(candidate, heap.peek()) < 0) {
+			heap.poll();
+			heap.add(candidate);
+			return true;
+		}
+		return false;
+	}
+
+	public boolean isFull() {
+		return heap.size() >= k;
+	}
+
+	/**
+	 * 현재 K개 중 가장 뒤처진 원소 (비어있으면 null)
+	 */
+	public T worst() {
+		return heap.peek();
+	}
+
+	public int size() {
+		return heap.size();
+	}
+
+	/**
+	 * 선택된 원소를 comparator 순서로 반환
+	 */
+	public List<T> toSortedList() {
+		List<T> result = new ArrayList<>(heap);
+		result.sort(comparator);
+		return result;
+	}
+}
@@ -2,27 +2,98 @@ package com.hospital.websocket;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.config.RegionConfig;
+import com.hospital.dto.EmergencyFeedUpdate;
+import com.hospital.dto.EmergencySnapshot;
+import com.hospital.dto.EmergencyWebResponse;
 import com.hospital.service.EmergencyLiveService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
 
+/**
+ * 응급실 실시간 데이터 WebSocket
+ * - 기본: 변경 시마다 전체 목록(JSON 배열) 수신
+ * - /emergency-websocket?protocol=delta: 스냅샷 + 변경분(delta) 수신
+ *   클라이언트 -> 서버: {"type":"resync"} (seq 누락 감지 시) -> 최신 스냅샷 재전송
+ * - 구독 필터: {"type":"subscribe","bbox":[minLat,minLng,maxLat,maxLng]} / {"type":"subscribe","sido":"110000"}
+ *   / {"type":"subscribe","hpids":["A1100001", ...]} -> 이후 해당 병원만 수신, {"type":"unsubscribe"} -> 전체 수신
+ *   (구독 변경 시 현재 목록(delta 클라이언트는 스냅샷)을 바로 다시 전송)
+ * - 전송은 세션별 큐 + 가상 스레드(EmergencySessionSender)로 처리, 브로드캐스트는 큐에 넣기만 함
+ * - 큐가 가득 찼거나 한 메시지를 SEND_TIME_LIMIT_MS 넘게 보내고 있는 세션은 연결 종료
+ */
+@Slf4j
 @Component
 public class EmergencyApiWebSocketHandler extends TextWebSocketHandler {
 
-    private final Set<WebSocketSession> sessions = Collections.synchronizedSet(new HashSet<>());
+    private static final String DELTA_PROTOCOL = "delta";
+
+    // 세션별 전송 대기 메시지 수 상한 (브로드캐스트는 3분 주기)
+    private static final int SEND_QUEUE_CAPACITY = 8;
+
+    // 한 메시지 전송 시간 상한 (ms)
+    private static final long SEND_TIME_LIMIT_MS = 30_000;
+
+    // 관심 병원 목록 최대 크기
+    private static final int MAX_WATCHLIST_SIZE = 100;
+
+    private final Map<String, EmergencySessionSender> senders = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmergencyFeedEncoder feedEncoder;
+    private final EmergencySubscriptionIndex subscriptionIndex;
+
+    private final Counter droppedMessages;
+    private final Counter evictedSessions;
 
     private EmergencyLiveService emergencyApiService;
 
+    @Autowired
+    public EmergencyApiWebSocketHandler(PrometheusMeterRegistry prometheusMeterRegistry,
+                                        EmergencyFeedEncoder feedEncoder, RegionConfig regionConfig) {
+        this.feedEncoder = feedEncoder;
+        this.subscriptionIndex = new EmergencySubscriptionIndex(
+                regionConfig.getNationwideSidoCodes(), regionConfig.getAllNationwideSidoNames());
+
+        Gauge.builder("emergency.websocket.sessions", senders, Map::size)
+                .description("응급실 WebSocket 연결 수")
+                .register(prometheusMeterRegistry);
+        Gauge.builder("emergency.websocket.queue.depth", this, handler -> handler.totalQueueDepth())
+                .description("전체 세션의 전송 대기 메시지 수")
+                .register(prometheusMeterRegistry);
+        Gauge.builder("emergency.websocket.queue.depth.max", this, handler -> handler.maxQueueDepth())
+                .description("세션별 전송 대기 메시지 수 최대값")
+                .register(prometheusMeterRegistry);
+        this.droppedMessages = Counter.builder("emergency.websocket.messages.dropped")
+                .description("큐가 가득 차 버려진 메시지 수")
+                .register(prometheusMeterRegistry);
+        this.evictedSessions = Counter.builder("emergency.websocket.sessions.evicted")
+                .description("느린 클라이언트로 판단해 종료한 세션 수")
+                .register(prometheusMeterRegistry);
+        Gauge.builder("emergency.websocket.subscriptions", subscriptionIndex, EmergencySubscriptionIndex::subscriptionCount)
+                .description("서로 다른 구독 필터 수")
+                .register(prometheusMeterRegistry);
+    }
+
     @Autowired
     public void setEmergencyApiService(EmergencyLiveService emergencyApiService) {
         this.emergencyApiService = emergencyApiService;
@@ -30,10 +101,12 @@ public class EmergencyApiWebSocketHandler extends TextWebSocketHandler {
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-        sessions.add(session);
-        System.out.println("WebSocket 연결됨: " + session.getId() + ", 총 연결수: " + sessions.size());
+        EmergencySessionSender sender = new EmergencySessionSender(session, isDeltaProtocol(session), SEND_QUEUE_CAPACITY);
+        sender.start();
+        senders.put(session.getId(), sender);
+        System.out.println("WebSocket 연결됨: " + session.getId() + ", 총 연결수: " + senders.size());
 
-        boolean isFirstConnection = (sessions.size() == 1);
+        boolean isFirstConnection = (senders.size() == 1);
 
         // 첫 접속자면 스케줄러 시작 (스케줄러가 즉시 데이터를 수집하고 브로드캐스트함)
         if (isFirstConnection) {
@@ -42,9 +115,16 @@ public class EmergencyApiWebSocketHandler extends TextWebSocketHandler {
         } else {
             // 추가 연결일 경우 캐시된 데이터가 있으면 즉시 전송
             try {
-                JsonNode initialData = emergencyApiService.getEmergencyRoomData();
-                if (initialData != null && initialData.size() > 0) {
-                    session.sendMessage(new TextMessage(initialData.toString()));
+                if (sender.isDelta()) {
+                    if (sendSnapshot(sender)) {
+                        log.debug("초기 스냅샷 전송 완료 (캐시): {}", session.getId());
+                    }
+                    return;
+                }
+                // 미리 작성해 둔 목록 JSON을 그대로 전송 (재파싱/재직렬화 없음)
+                EmergencySnapshot snapshot = emergencyApiService.getLatestSnapshot();
+                if (snapshot != null && snapshot.getCount() > 0) {
+                    send(sender, new TextMessage(snapshot.getJson()));
                     System.out.println("초기 데이터 전송 완료 (캐시): " + session.getId());
                 } else {
                     System.out.println("추가 연결 - 스케줄러 데이터 대기 중: " + session.getId());
@@ -55,10 +135,111 @@ public class EmergencyApiWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
+    /**
+     * 클라이언트 메시지 처리 (구독 변경, delta 프로토콜의 resync 요청)
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(message.getPayload());
+        } catch (Exception e) {
+            log.debug("알 수 없는 메시지 형식: {}", session.getId());
+            return;
+        }
+
+        EmergencySessionSender sender = senders.get(session.getId());
+        if (sender == null) {
+            return;
+        }
+
+        String type = node.path("type").asText();
+        if ("subscribe".equals(type)) {
+            EmergencySubscription subscription;
+            try {
+                subscription = parseSubscription(node);
+            } catch (IllegalArgumentException e) {
+                sendError(sender, e.getMessage());
+                return;
+            }
+            subscriptionIndex.subscribe(sender, subscription);
+            resendCurrentData(sender);
+            log.debug("구독 등록: {} {}", session.getId(), subscription);
+        } else if ("unsubscribe".equals(type)) {
+            subscriptionIndex.unsubscribe(sender);
+            resendCurrentData(sender);
+            log.debug("구독 해제: {}", session.getId());
+        } else if ("resync".equals(type) && sender.isDelta()) {
+            if (!sendSnapshot(sender)) {
+                // 아직 수집 전이면 첫 수집 결과가 스냅샷으로 전송됨
+                sender.setSynced(false);
+            }
+            log.debug("resync 요청 처리: {} (lastSeq: {})", session.getId(), node.path("lastSeq").asText());
+        }
+    }
+
+    // 구독 메시지 해석 (잘못된 형식이면 IllegalArgumentException)
+    private EmergencySubscription parseSubscription(JsonNode node) {
+        EmergencySubscription.Bbox bbox = null;
+        JsonNode bboxNode = node.get("bbox");
+        if (bboxNode != null) {
+            if (!bboxNode.isArray() || bboxNode.size() != 4) {
+                throw new IllegalArgumentException("bbox는 [minLat, minLng, maxLat, maxLng] 형식이어야 합니다");
+            }
+            for (JsonNode value : bboxNode) {
+                if (!value.isNumber()) {
+                    throw new IllegalArgumentException("bbox 값은 숫자여야 합니다");
+                }
+            }
+            bbox = new EmergencySubscription.Bbox(bboxNode.get(0).asDouble(), bboxNode.get(1).asDouble(),
+                    bboxNode.get(2).asDouble(), bboxNode.get(3).asDouble());
+            if (bbox.minLat() > bbox.maxLat() || bbox.minLng() > bbox.maxLng()
+                    || bbox.minLat() < -90 || bbox.maxLat() > 90 || bbox.minLng() < -180 || bbox.maxLng() > 180) {
+                throw new IllegalArgumentException("bbox 범위가 올바르지 않습니다");
+            }
+            if (EmergencySubscriptionIndex.cellCount(bbox) > EmergencySubscriptionIndex.MAX_BBOX_CELLS) {
+                throw new IllegalArgumentException("bbox 범위가 너무 넓습니다 (전체 수신은 unsubscribe 사용)");
+            }
+        }
+
+        String sidoCode = null;
+        if (node.hasNonNull("sido")) {
+            sidoCode = node.get("sido").asText();
+            if (!subscriptionIndex.isKnownSido(sidoCode)) {
+                throw new IllegalArgumentException("알 수 없는 시도 코드입니다: " + sidoCode);
+            }
+        }
+
+        Set<String> hpids = null;
+        JsonNode hpidsNode = node.get("hpids");
+        if (hpidsNode != null) {
+            if (!hpidsNode.isArray() || hpidsNode.size() > MAX_WATCHLIST_SIZE) {
+                throw new IllegalArgumentException("hpids는 최대 " + MAX_WATCHLIST_SIZE + "개의 배열이어야 합니다");
+            }
+            Set<String> values = new LinkedHashSet<>();
+            for (JsonNode value : hpidsNode) {
+                values.add(value.asText());
+            }
+            hpids = Set.copyOf(values);
+        }
+
+        if (bbox == null && sidoCode == null && (hpids == null || hpids.isEmpty())) {
+            throw new IllegalArgumentException("bbox, sido, hpids 중 하나는 필요합니다");
+        }
+        return new EmergencySubscription(bbox, sidoCode, hpids);
+    }
+
+    private void sendError(EmergencySessionSender sender, String message) {
+        send(sender, new TextMessage(objectMapper.createObjectNode()
+                .put("type", "error")
+                .put("message", message)
+                .toString()));
+    }
+
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        sessions.remove(session);
-        System.out.println("WebSocket 연결 해제: " + session.getId() + ", 총 연결수: " + sessions.size());
+        removeSender(session.getId());
+        System.out.println("WebSocket 연결 해제: " + session.getId() + ", 총 연결수: " + senders.size());
 
         // 연결된 세션이 없을 때만 스케줄러 중지
         if (getConnectedSessionCount() == 0) {
@@ -71,7 +252,7 @@ public class EmergencyApiWebSocketHandler extends TextWebSocketHandler {
         System.err.println("WebSocket 에러: " + session.getId());
         exception.printStackTrace();
 
-        sessions.remove(session);
+        removeSender(session.getId());
 
         // 연결된 세션이 없을 때만 스케줄러 중지
         if (getConnectedSessionCount() == 0) {
@@ -79,52 +260,218 @@ public class EmergencyApiWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    
-
     /**
-     * 모든 연결된 클라이언트에게 데이터 브로드캐스트
+     * 모든 연결된 클라이언트에게 데이터 브로드캐스트 (세션별 큐에 넣기만 하고 바로 반환)
+     * - 전체 수신 세션: 미리 작성된 전체 목록 / 스냅샷 / delta 메시지를 공유
+     * - 구독 세션: 구독별로 해당 병원만 담은 메시지를 한 번씩 작성해 같은 구독 세션끼리 공유
      */
-    public void broadcastEmergencyRoomData(String data) {
-        if (data == null || sessions.isEmpty()) {
+    public void broadcastEmergencyRoomData(EmergencyFeedUpdate update) {
+        if (update == null || senders.isEmpty()) {
             return;
         }
 
-        synchronized (sessions) {
-            // 닫힌 세션 제거
-            sessions.removeIf(session -> !session.isOpen());
+        // 메시지는 한 번만 만들고 모든 세션이 공유
+        TextMessage fullMessage = new TextMessage(update.getDataJson());
+        TextMessage snapshot = new TextMessage(update.getSnapshotMessage());
+        TextMessage delta = new TextMessage(update.getDeltaMessage());
 
-            int successCount = 0;
-            for (WebSocketSession session : new HashSet<>(sessions)) {
-                try {
-                    if (session.isOpen()) {
-                        session.sendMessage(new TextMessage(data));
+        int successCount = 0;
+        for (EmergencySessionSender sender : senders.values()) {
+            if (!sender.isOpen()) {
+                removeSender(sender.getSession().getId());
+                continue;
+            }
+            if (sender.getSubscription() != null) {
+                continue;
+            }
+
+            boolean queued;
+            if (!sender.isDelta()) {
+                queued = send(sender, fullMessage);
+            } else if (sender.isSynced()) {
+                queued = send(sender, delta);
+            } else {
+                queued = send(sender, snapshot);
+                sender.setSynced(queued);
+            }
+            if (queued) {
+                successCount++;
+            }
+        }
+
+        successCount += broadcastToSubscriptions(update);
+
+        log.debug("브로드캐스트 완료. 전송 대기열에 넣은 세션 수: {}/{}", successCount, senders.size());
+    }
+
+    // 구독별 부분 목록 전송
+    private int broadcastToSubscriptions(EmergencyFeedUpdate update) {
+        Map<EmergencySubscription, List<EmergencyWebResponse>> matched = subscriptionIndex.match(update.getData());
+        if (matched.isEmpty()) {
+            return 0;
+        }
+        Map<EmergencySubscription, List<EmergencyWebResponse>> removed = subscriptionIndex.match(update.getRemoved());
+        Set<EmergencyWebResponse> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        changed.addAll(update.getChanged());
+
+        int successCount = 0;
+        for (Map.Entry<EmergencySubscription, List<EmergencyWebResponse>> entry : matched.entrySet()) {
+            List<EmergencyWebResponse> hospitals = entry.getValue();
+            List<EmergencyWebResponse> changedHospitals = hospitals.stream().filter(changed::contains).toList();
+            List<EmergencyWebResponse> removedHospitals = removed.getOrDefault(entry.getKey(), List.of());
+            FilteredMessages messages = new FilteredMessages(update.getSeq(), hospitals, changedHospitals, removedHospitals);
+
+            try {
+                for (EmergencySessionSender sender : subscriptionIndex.sendersOf(entry.getKey())) {
+                    boolean queued;
+                    if (!sender.isDelta()) {
+                        // 기존 클라이언트는 구독 범위에 변경이 있을 때만 전송
+                        if (changedHospitals.isEmpty() && removedHospitals.isEmpty()) {
+                            continue;
+                        }
+                        queued = send(sender, messages.list());
+                    } else if (sender.isSynced()) {
+                        // 변경이 없어도 seq가 이어지도록 빈 delta 전송
+                        queued = send(sender, messages.delta());
+                    } else {
+                        queued = send(sender, messages.snapshot());
+                        sender.setSynced(queued);
+                    }
+                    if (queued) {
                         successCount++;
                     }
-                } catch (IOException e) {
-                    System.err.println("메시지 전송 실패: " + session.getId());
-                    sessions.remove(session);
                 }
+            } catch (JsonProcessingException e) {
+                log.error("구독 메시지 작성 실패: {}", entry.getKey(), e);
             }
-            
-            System.out.println("브로드캐스트 완료. 성공한 세션 수: " + successCount + "/" + sessions.size());
         }
+        return successCount;
+    }
+
+    // 구독 변경 후 현재 데이터를 구독 기준으로 다시 전송
+    private void resendCurrentData(EmergencySessionSender sender) {
+        if (sender.isDelta()) {
+            if (!sendSnapshot(sender)) {
+                sender.setSynced(false);
+            }
+            return;
+        }
+
+        EmergencyFeedUpdate update = emergencyApiService.getLatestUpdate();
+        if (update == null) {
+            return;
+        }
+        EmergencySubscription subscription = sender.getSubscription();
+        try {
+            String data = subscription == null
+                    ? update.getDataJson()
+                    : feedEncoder.encodeList(subscriptionIndex.filter(subscription, update.getData()));
+            send(sender, new TextMessage(data));
+        } catch (JsonProcessingException e) {
+            log.error("구독 데이터 전송 실패: {}", sender.getSession().getId(), e);
+        }
+    }
+
+    // 최신 스냅샷 전송 (아직 수집 전이면 false, 구독 세션은 구독 범위만)
+    private boolean sendSnapshot(EmergencySessionSender sender) {
+        EmergencyFeedUpdate update = emergencyApiService.getLatestUpdate();
+        if (update == null || !sender.isOpen()) {
+            return false;
+        }
+
+        String snapshotMessage;
+        EmergencySubscription subscription = sender.getSubscription();
+        if (subscription == null) {
+            snapshotMessage = update.getSnapshotMessage();
+        } else {
+            try {
+                snapshotMessage = feedEncoder.snapshotMessage(update.getSeq(),
+                        feedEncoder.encodeList(subscriptionIndex.filter(subscription, update.getData())));
+            } catch (JsonProcessingException e) {
+                log.error("스냅샷 작성 실패: {}", sender.getSession().getId(), e);
+                return false;
+            }
+        }
+
+        boolean queued = send(sender, new TextMessage(snapshotMessage));
+        sender.setSynced(queued);
+        return queued;
+    }
+
+    // 세션 큐에 추가, 느린 클라이언트면 연결 종료 후 false
+    private boolean send(EmergencySessionSender sender, TextMessage message) {
+        if (!sender.isStalled(System.currentTimeMillis(), SEND_TIME_LIMIT_MS) && sender.offer(message)) {
+            return true;
+        }
+        droppedMessages.increment();
+        evict(sender);
+        return false;
+    }
+
+    private void evict(EmergencySessionSender sender) {
+        WebSocketSession session = sender.getSession();
+        if (senders.remove(session.getId(), sender)) {
+            evictedSessions.increment();
+            subscriptionIndex.unsubscribe(sender);
+            sender.stop();
+            log.warn("느린 클라이언트 연결 종료: {} (대기 메시지: {})", session.getId(), sender.queueDepth());
+            // 막힌 연결의 close가 브로드캐스트를 붙잡지 않도록 별도 가상 스레드에서 종료
+            Thread.ofVirtual().start(() -> {
+                try {
+                    session.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException e) {
+                    log.warn("WebSocket 세션 종료 실패: {}", session.getId(), e);
+                }
+            });
+        }
+    }
+
+    private void removeSender(String sessionId) {
+        EmergencySessionSender sender = senders.remove(sessionId);
+        if (sender != null) {
+            subscriptionIndex.unsubscribe(sender);
+            sender.stop();
+        }
+    }
+
+    private boolean isDeltaProtocol(WebSocketSession session) {
+        if (session.getUri() == null) {
+            return false;
+        }
+        String protocol = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("protocol");
+        return DELTA_PROTOCOL.equals(protocol);
+    }
+
+    private double totalQueueDepth() {
+        int total = 0;
+        for (EmergencySessionSender sender : senders.values()) {
+            total += sender.queueDepth();
+        }
+        return total;
+    }
+
+    private double maxQueueDepth() {
+        int max = 0;
+        for (EmergencySessionSender sender : senders.values()) {
+            max = Math.max(max, sender.queueDepth());
+        }
+        return max;
     }
 
     /**
      * 모든 WebSocket 연결 강제 종료
      */
     public void closeAllSessions() {
-        synchronized (sessions) {
-            for (WebSocketSession session : new HashSet<>(sessions)) {
-                try {
-                    if (session.isOpen()) {
-                        session.close(CloseStatus.NORMAL);
-                    }
-                } catch (IOException e) {
-                    System.err.println("WebSocket 세션 종료 실패: " + session.getId());
+        for (EmergencySessionSender sender : senders.values()) {
+            WebSocketSession session = sender.getSession();
+            try {
+                if (session.isOpen()) {
+                    session.close(CloseStatus.NORMAL);
                 }
+            } catch (IOException e) {
+                System.err.println("WebSocket 세션 종료 실패: " + session.getId());
             }
-            sessions.clear();
+            removeSender(session.getId());
         }
         System.out.println("✅ 모든 WebSocket 연결 종료 완료");
     }
@@ -133,18 +480,73 @@ public class EmergencyApiWebSocketHandler extends TextWebSocketHandler {
      * 현재 연결된 세션 수 조회 (유효하지 않은 세션 정리 포함)
      */
     public int getConnectedSessionCount() {
-        synchronized (sessions) {
-            // 유효하지 않은 세션 정리
-            sessions.removeIf(session -> !session.isOpen());
-            return sessions.size();
+        // 유효하지 않은 세션 정리
+        for (EmergencySessionSender sender : senders.values()) {
+            if (!sender.isOpen()) {
+                removeSender(sender.getSession().getId());
+            }
         }
+        return senders.size();
     }
     
     /**
      * 현재 연결 상태 정보 반환
      */
     public String getConnectionStatus() {
+        int totalSessions = senders.size();
         int validSessions = getConnectedSessionCount();
-        return String.format("총 세션: %d, 유효 세션: %d", sessions.size(), validSessions);
+        return String.format("총 세션: %d, 유효 세션: %d", totalSessions, validSessions);
+    }
+
+    /**
+     * 구독 하나의 메시지 (필요한 형식만 처음 쓸 때 작성해 같은 구독 세션끼리 공유)
+     */
+    private final class FilteredMessages {
+
+        private final long seq;
+        private final List<EmergencyWebResponse> hospitals;
+        private final List<EmergencyWebResponse> changed;
+        private final List<EmergencyWebResponse> removed;
+
+        private String listJson;
+        private TextMessage list;
+        private TextMessage snapshot;
+        private TextMessage delta;
+
+        private FilteredMessages(long seq, List<EmergencyWebResponse> hospitals, List<EmergencyWebResponse> changed,
+                List<EmergencyWebResponse> removed) {
+            this.seq = seq;
+            this.hospitals = hospitals;
+            this.changed = changed;
+            this.removed = removed;
+        }
+
+        TextMessage list() throws JsonProcessingException {
+            if (list == null) {
+                list = new TextMessage(listJson());
+            }
+            return list;
+        }
+
+        TextMessage snapshot() throws JsonProcessingException {
+            if (snapshot == null) {
+                snapshot = new TextMessage(feedEncoder.snapshotMessage(seq, listJson()));
+            }
+            return snapshot;
+        }
+
+        TextMessage delta() throws JsonProcessingException {
+            if (delta == null) {
+                delta = new TextMessage(feedEncoder.deltaMessage(seq, changed, removed));
+            }
+            return delta;
+        }
+
+        private String listJson() throws JsonProcessingException {
+            if (listJson == null) {
+                listJson = feedEncoder.encodeList(hospitals);
+            }
+            return listJson;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.hospital.websocket;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospital.dto.EmergencyDeltaMessage;
+import com.hospital.dto.EmergencyWebResponse;
+
+/**
+ * 응급실 WebSocket 메시지 JSON 작성
+ * - 전체 목록(기존 클라이언트), 스냅샷/delta(protocol=delta 클라이언트)
+ * - 구독 필터별 부분 목록도 같은 형식으로 작성
+ */
+@Component
+public class EmergencyFeedEncoder {
+
+    private final ObjectMapper objectMapper;
+
+    public EmergencyFeedEncoder() {
+        this.objectMapper = new ObjectMapper();
+        // null 값 제외 설정 (Map 내부 포함)
+        this.objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.objectMapper.configOverride(Map.class)
+            .setInclude(JsonInclude.Value.construct(JsonInclude.Include.ALWAYS, JsonInclude.Include.NON_NULL));
+    }
+
+    /**
+     * 응급실 목록 -> JSON 배열
+     */
+    public String encodeList(List<EmergencyWebResponse> hospitals) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(hospitals);
+    }
+
+    /**
+     * {"type":"snapshot","seq":N,"data":[...]} (이미 작성한 목록 JSON을 다시 직렬화하지 않고 감쌈)
+     */
+    public String snapshotMessage(long seq, String listJson) {
+        return "{\"type\":\"snapshot\",\"seq\":" + seq + ",\"data\":" + listJson + "}";
+    }
+
+    /**
+     * {"type":"delta","seq":N,"baseSeq":N-1,"upserts":[...],"removed":[hpid, ...]}
+     */
+    public String deltaMessage(long seq, List<EmergencyWebResponse> changed, List<EmergencyWebResponse> removed)
+            throws JsonProcessingException {
+        List<String> removedHpids = removed.stream().map(EmergencyWebResponse::getHpid).toList();
+        return objectMapper.writeValueAsString(new EmergencyDeltaMessage(seq, seq - 1, changed, removedHpids));
+    }
+}
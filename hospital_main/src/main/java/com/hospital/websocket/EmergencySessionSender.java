@@ -0,0 +1,114 @@
+package com.hospital.websocket;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 응급실 WebSocket 세션별 전송기
+ * - 세션마다 크기 제한 큐 + 전용 가상 스레드 하나가 순서대로 전송
+ * - 브로드캐스트 쪽은 큐에 넣기만 하므로 느린 클라이언트 때문에 막히지 않음
+ */
+@Slf4j
+final class EmergencySessionSender {
+
+    private final WebSocketSession session;
+    private final boolean delta;
+    private final BlockingQueue<TextMessage> queue;
+    private Thread thread;
+
+    // 현재 전송을 시작한 시각 (ms, 전송 중이 아니면 0)
+    private volatile long sendingSince;
+
+    // delta 클라이언트의 스냅샷 수신 여부 (스냅샷을 받기 전에는 delta를 적용할 수 없음)
+    private volatile boolean synced;
+
+    // 구독 필터 (null이면 전체 수신, EmergencySubscriptionIndex에서만 변경)
+    private volatile EmergencySubscription subscription;
+
+    EmergencySessionSender(WebSocketSession session, boolean delta, int queueCapacity) {
+        this.session = session;
+        this.delta = delta;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    void start() {
+        thread = Thread.ofVirtual().name("emergency-ws-" + session.getId()).start(this::run);
+    }
+
+    void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * 전송 큐에 추가 (큐가 가득 차면 false, 대기하지 않음)
+     */
+    boolean offer(TextMessage message) {
+        return queue.offer(message);
+    }
+
+    /**
+     * 한 메시지를 limitMillis 이상 보내고 있는지 여부
+     */
+    boolean isStalled(long now, long limitMillis) {
+        long since = sendingSince;
+        return since != 0 && now - since > limitMillis;
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    WebSocketSession getSession() {
+        return session;
+    }
+
+    boolean isOpen() {
+        return session.isOpen();
+    }
+
+    boolean isDelta() {
+        return delta;
+    }
+
+    boolean isSynced() {
+        return synced;
+    }
+
+    void setSynced(boolean synced) {
+        this.synced = synced;
+    }
+
+    EmergencySubscription getSubscription() {
+        return subscription;
+    }
+
+    void setSubscription(EmergencySubscription subscription) {
+        this.subscription = subscription;
+    }
+
+    private void run() {
+        try {
+            while (session.isOpen()) {
+                TextMessage message = queue.take();
+                sendingSince = System.currentTimeMillis();
+                try {
+                    session.sendMessage(message);
+                } finally {
+                    sendingSince = 0;
+                }
+            }
+        } catch (InterruptedException e) {
+            // 세션 종료 시 stop()으로 중단
+        } catch (IOException | IllegalStateException e) {
+            log.debug("메시지 전송 실패: {}, 오류: {}", session.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.hospital.websocket;
+
+import java.util.Set;
+
+import com.hospital.dto.EmergencyWebResponse;
+
+/**
+ * 응급실 WebSocket 구독 필터 (지정한 조건 중 하나라도 맞으면 전송)
+ * - bbox: 위경도 사각형, sidoCode: 시도 코드 (RegionConfig 기준), hpids: 관심 병원 목록
+ * - 같은 조건의 세션은 하나의 구독으로 묶여 메시지를 공유하므로 equals/hashCode가 조건 비교
+ */
+record EmergencySubscription(Bbox bbox, String sidoCode, Set<String> hpids) {
+
+    boolean matches(EmergencyWebResponse hospital, String hospitalSidoCode) {
+        if (hpids != null && hpids.contains(hospital.getHpid())) {
+            return true;
+        }
+        if (sidoCode != null && sidoCode.equals(hospitalSidoCode)) {
+            return true;
+        }
+        // coordinateY = 위도, coordinateX = 경도
+        return bbox != null && hospital.getCoordinateY() != null && hospital.getCoordinateX() != null
+                && bbox.contains(hospital.getCoordinateY(), hospital.getCoordinateX());
+    }
+
+    record Bbox(double minLat, double minLng, double maxLat, double maxLng) {
+
+        boolean contains(double lat, double lng) {
+            return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.hospital.websocket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.hospital.dto.EmergencyWebResponse;
+
+/**
+ * 응급실 구독 색인
+ * - 같은 조건의 세션은 하나의 구독으로 묶고, 구독을 hpid / 시도 코드 / 격자 칸별로 색인
+ * - 브로드캐스트 시 병원마다 색인에서 해당 구독만 찾으므로 비용이 세션 수가 아니라 병원 수 x 일치 구독 수에 비례
+ */
+final class EmergencySubscriptionIndex {
+
+    // 영역 구독 색인 격자 크기 (도)
+    private static final double CELL_SIZE = 0.25;
+    private static final long CELL_ROW_STRIDE = 10_000;
+    private static final long CELL_COL_OFFSET = 5_000;
+
+    // 영역 구독 최대 칸 수 (약 16 x 16도, 전국 범위는 충분히 포함)
+    static final int MAX_BBOX_CELLS = 64 * 64;
+
+    // 시도 약칭 (서울, 경기, 충북 ...) -> 시도 코드
+    private final Map<String, String> sidoCodeByName = new LinkedHashMap<>();
+
+    private final Map<EmergencySubscription, Set<EmergencySessionSender>> senders = new HashMap<>();
+    private final Map<String, Set<EmergencySubscription>> byHpid = new HashMap<>();
+    private final Map<String, Set<EmergencySubscription>> bySido = new HashMap<>();
+    private final Map<Long, Set<EmergencySubscription>> byCell = new HashMap<>();
+
+    EmergencySubscriptionIndex(List<String> sidoCodes, List<String> sidoNames) {
+        for (int i = 0; i < sidoCodes.size() && i < sidoNames.size(); i++) {
+            sidoCodeByName.put(sidoNames.get(i).trim(), sidoCodes.get(i).trim());
+        }
+    }
+
+    boolean isKnownSido(String sidoCode) {
+        return sidoCodeByName.containsValue(sidoCode);
+    }
+
+    /**
+     * 주소의 시도 코드 ("서울특별시 ..." -> 서울, "충청북도 ..." -> 충북, 알 수 없으면 null)
+     */
+    String sidoCodeOf(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String first = address.trim().split("\\s+", 2)[0];
+        for (Map.Entry<String, String> entry : sidoCodeByName.entrySet()) {
+            String name = entry.getKey();
+            if (first.startsWith(name)) {
+                return entry.getValue();
+            }
+            // 충청북도 -> 충북, 경상남도 -> 경남, 전라남도 -> 전남
+            if (name.length() == 2 && first.length() >= 4
+                    && first.charAt(0) == name.charAt(0) && first.charAt(2) == name.charAt(1)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 세션 구독 등록 (기존 구독은 해제)
+     */
+    synchronized void subscribe(EmergencySessionSender sender, EmergencySubscription subscription) {
+        unsubscribe(sender);
+        sender.setSubscription(subscription);
+
+        Set<EmergencySessionSender> members = senders.get(subscription);
+        if (members != null) {
+            members.add(sender);
+            return;
+        }
+
+        members = new HashSet<>();
+        members.add(sender);
+        senders.put(subscription, members);
+        for (String key : keysOf(subscription.hpids())) {
+            byHpid.computeIfAbsent(key, k -> new HashSet<>()).add(subscription);
+        }
+        if (subscription.sidoCode() != null) {
+            bySido.computeIfAbsent(subscription.sidoCode(), k -> new HashSet<>()).add(subscription);
+        }
+        for (long cell : cellsOf(subscription.bbox())) {
+            byCell.computeIfAbsent(cell, k -> new HashSet<>()).add(subscription);
+        }
+    }
+
+    /**
+     * 세션 구독 해제 (전체 수신으로 돌아감)
+     */
+    synchronized void unsubscribe(EmergencySessionSender sender) {
+        EmergencySubscription subscription = sender.getSubscription();
+        if (subscription == null) {
+            return;
+        }
+        sender.setSubscription(null);
+
+        Set<EmergencySessionSender> members = senders.get(subscription);
+        if (members == null || !members.remove(sender) || !members.isEmpty()) {
+            return;
+        }
+
+        // 마지막 세션이 빠지면 색인에서도 제거
+        senders.remove(subscription);
+        for (String key : keysOf(subscription.hpids())) {
+            removeFrom(byHpid, key, subscription);
+        }
+        if (subscription.sidoCode() != null) {
+            removeFrom(bySido, subscription.sidoCode(), subscription);
+        }
+        for (long cell : cellsOf(subscription.bbox())) {
+            removeFrom(byCell, cell, subscription);
+        }
+    }
+
+    /**
+     * 병원 목록을 구독별로 나눔 (일치하는 병원이 없는 구독은 빈 목록, 목록 순서 유지)
+     */
+    synchronized Map<EmergencySubscription, List<EmergencyWebResponse>> match(List<EmergencyWebResponse> hospitals) {
+        Map<EmergencySubscription, List<EmergencyWebResponse>> matched = new HashMap<>();
+        for (EmergencySubscription subscription : senders.keySet()) {
+            matched.put(subscription, new ArrayList<>());
+        }
+        if (senders.isEmpty()) {
+            return matched;
+        }
+
+        Set<EmergencySubscription> candidates = new HashSet<>();
+        for (EmergencyWebResponse hospital : hospitals) {
+            candidates.clear();
+            addAll(candidates, byHpid.get(hospital.getHpid()));
+            String sidoCode = sidoCodeOf(hospital.getEmergencyAddress());
+            if (sidoCode != null) {
+                addAll(candidates, bySido.get(sidoCode));
+            }
+            if (hospital.getCoordinateY() != null && hospital.getCoordinateX() != null) {
+                addAll(candidates, byCell.get(cellKey(cellIndex(hospital.getCoordinateY()),
+                        cellIndex(hospital.getCoordinateX()))));
+            }
+
+            // 격자 칸 후보는 사각형 경계에서 실제로 포함되는지 다시 확인
+            for (EmergencySubscription subscription : candidates) {
+                if (subscription.matches(hospital, sidoCode)) {
+                    matched.get(subscription).add(hospital);
+                }
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 구독 하나에 해당하는 병원만 (구독 변경/resync 시 스냅샷용)
+     */
+    List<EmergencyWebResponse> filter(EmergencySubscription subscription, List<EmergencyWebResponse> hospitals) {
+        List<EmergencyWebResponse> result = new ArrayList<>();
+        for (EmergencyWebResponse hospital : hospitals) {
+            if (subscription.matches(hospital, sidoCodeOf(hospital.getEmergencyAddress()))) {
+                result.add(hospital);
+            }
+        }
+        return result;
+    }
+
+    synchronized List<EmergencySessionSender> sendersOf(EmergencySubscription subscription) {
+        Set<EmergencySessionSender> members = senders.get(subscription);
+        return members == null ? List.of() : new ArrayList<>(members);
+    }
+
+    synchronized int subscriptionCount() {
+        return senders.size();
+    }
+
+    static int cellCount(EmergencySubscription.Bbox bbox) {
+        long rows = cellIndex(bbox.maxLat()) - cellIndex(bbox.minLat()) + 1;
+        long cols = cellIndex(bbox.maxLng()) - cellIndex(bbox.minLng()) + 1;
+        return (int) Math.min(Integer.MAX_VALUE, rows * cols);
+    }
+
+    private static List<Long> cellsOf(EmergencySubscription.Bbox bbox) {
+        if (bbox == null) {
+            return List.of();
+        }
+        List<Long> cells = new ArrayList<>();
+        for (long row = cellIndex(bbox.minLat()); row <= cellIndex(bbox.maxLat()); row++) {
+            for (long col = cellIndex(bbox.minLng()); col <= cellIndex(bbox.maxLng()); col++) {
+                cells.add(cellKey(row, col));
+            }
+        }
+        return cells;
+    }
+
+    private static Set<String> keysOf(Set<String> hpids) {
+        return hpids == null ? Set.of() : hpids;
+    }
+
+    private static <K> void removeFrom(Map<K, Set<EmergencySubscription>> index, K key,
+            EmergencySubscription subscription) {
+        Set<EmergencySubscription> subscriptions = index.get(key);
+        if (subscriptions != null && subscriptions.remove(subscription) && subscriptions.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static void addAll(Set<EmergencySubscription> target, Set<EmergencySubscription> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+    private static long cellIndex(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE);
+    }
+
+    private static long cellKey(long row, long col) {
+        return row * CELL_ROW_STRIDE + (col + CELL_COL_OFFSET);
+    }
+}
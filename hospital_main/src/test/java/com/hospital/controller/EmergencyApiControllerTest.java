@@ -0,0 +1,38 @@
+package com.hospital.controller;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class EmergencyApiControllerTest {
+
+	@Test
+	public void gzip을_허용하는_Accept_Encoding() {
+		assertTrue(EmergencyApiController.acceptsGzip("gzip"));
+		assertTrue(EmergencyApiController.acceptsGzip("gzip, deflate, br"));
+		assertTrue(EmergencyApiController.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+		assertTrue(EmergencyApiController.acceptsGzip("x-gzip"));
+		assertTrue(EmergencyApiController.acceptsGzip("*"));
+		assertTrue(EmergencyApiController.acceptsGzip("identity, *;q=0.1"));
+	}
+
+	@Test
+	public void q가_0이면_gzip_거부() {
+		assertFalse(EmergencyApiController.acceptsGzip("gzip;q=0"));
+		assertFalse(EmergencyApiController.acceptsGzip("gzip; q=0.0, deflate"));
+		assertFalse(EmergencyApiController.acceptsGzip("gzip;q=0, *"));
+		assertFalse(EmergencyApiController.acceptsGzip("*;q=0"));
+		// 잘못된 q값은 0으로 취급
+		assertFalse(EmergencyApiController.acceptsGzip("gzip;q=abc"));
+	}
+
+	@Test
+	public void gzip이_없거나_빈_헤더는_원본() {
+		assertFalse(EmergencyApiController.acceptsGzip(null));
+		assertFalse(EmergencyApiController.acceptsGzip(""));
+		assertFalse(EmergencyApiController.acceptsGzip("identity"));
+		assertFalse(EmergencyApiController.acceptsGzip("deflate, br"));
+		assertFalse(EmergencyApiController.acceptsGzip("gzipx"));
+	}
+}
@@ -0,0 +1,68 @@
+package com.hospital.dto;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+public class EmergencySnapshotTest {
+
+	private final EmergencySnapshot snapshot = EmergencySnapshot.of(1, 1, "[{\"hpid\":\"A\"}]");
+
+	@Test
+	public void 같은_ETag면_일치() {
+		assertTrue(snapshot.matches(snapshot.getEtag()));
+	}
+
+	@Test
+	public void 약한_비교와_여러_값() {
+		assertTrue(snapshot.matches("W/" + snapshot.getEtag()));
+		assertTrue(snapshot.matches("\"other\", " + snapshot.getEtag()));
+		assertTrue(snapshot.matches("\"other\",W/" + snapshot.getEtag() + " "));
+		assertTrue(snapshot.matches("*"));
+	}
+
+	@Test
+	public void gzip_본문은_별도_ETag이고_어느_쪽이든_일치() {
+		assertNotEquals(snapshot.getEtag(), snapshot.getGzipEtag());
+		assertTrue(snapshot.getGzipEtag().startsWith("\"") && snapshot.getGzipEtag().endsWith("-gzip\""));
+		assertTrue(snapshot.matches(snapshot.getGzipEtag()));
+		assertTrue(snapshot.matches("W/" + snapshot.getGzipEtag()));
+	}
+
+	@Test
+	public void 다른_ETag나_빈_헤더는_불일치() {
+		assertFalse(snapshot.matches(null));
+		assertFalse(snapshot.matches(""));
+		assertFalse(snapshot.matches("  "));
+		assertFalse(snapshot.matches("\"other\""));
+		// 따옴표 없는 값은 다른 태그
+		assertFalse(snapshot.matches(snapshot.getEtag().replace("\"", "")));
+	}
+
+	@Test
+	public void ETag는_내용으로만_결정() {
+		EmergencySnapshot sameContent = EmergencySnapshot.of(2, 1, "[{\"hpid\":\"A\"}]");
+		EmergencySnapshot otherContent = EmergencySnapshot.of(3, 1, "[{\"hpid\":\"B\"}]");
+
+		assertEquals(snapshot.getEtag(), sameContent.getEtag());
+		assertNotEquals(snapshot.getEtag(), otherContent.getEtag());
+		assertFalse(otherContent.matches(snapshot.getEtag()));
+	}
+
+	@Test
+	public void gzip_본문을_풀면_원본과_같다() throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.getGzipBody()))) {
+			assertArrayEquals(snapshot.getBody(), in.readAllBytes());
+		}
+		assertArrayEquals("[{\"hpid\":\"A\"}]".getBytes(StandardCharsets.UTF_8), snapshot.getBody());
+	}
+}
@@ -0,0 +1,158 @@
+package com.hospital.dto;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.DayOfWeek;
+
+import org.junit.Test;
+
+public class WeeklyScheduleTest {
+
+	@Test
+	public void HHmm_문자열을_분으로() {
+		assertEquals(0, WeeklySchedule.parseMinutes("0000"));
+		assertEquals(9 * 60 + 30, WeeklySchedule.parseMinutes("0930"));
+		assertEquals(24 * 60, WeeklySchedule.parseMinutes("2400"));
+	}
+
+	@Test
+	public void 형식이_다르면_NONE() {
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes(null));
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes(""));
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes("900"));
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes("09:00"));
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes("0960"));
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes("2401"));
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes("2500"));
+		assertEquals(WeeklySchedule.NONE, WeeklySchedule.parseMinutes("09a0"));
+	}
+
+	@Test
+	public void 분을_HHmm_형식으로() {
+		assertEquals("09:05", WeeklySchedule.format((short) 545));
+		assertEquals("24:00", WeeklySchedule.format((short) (24 * 60)));
+		assertEquals("", WeeklySchedule.format(WeeklySchedule.NONE));
+	}
+
+	@Test
+	public void 당일_운영시간은_오픈_포함_마감_제외() {
+		WeeklySchedule schedule = WeeklySchedule.builder().day(DayOfWeek.MONDAY, "0900", "1800").build();
+
+		assertFalse(schedule.isOpenAt(DayOfWeek.MONDAY, 8 * 60 + 59));
+		assertTrue(schedule.isOpenAt(DayOfWeek.MONDAY, 9 * 60));
+		assertTrue(schedule.isOpenAt(DayOfWeek.MONDAY, 17 * 60 + 59));
+		assertFalse(schedule.isOpenAt(DayOfWeek.MONDAY, 18 * 60));
+		assertFalse(schedule.isOpenAt(DayOfWeek.TUESDAY, 12 * 60));
+	}
+
+	@Test
+	public void 자정을_넘기는_운영은_다음날_새벽까지() {
+		WeeklySchedule schedule = WeeklySchedule.builder().day(DayOfWeek.MONDAY, "2200", "0200").build();
+
+		assertFalse(schedule.isOpenAt(DayOfWeek.MONDAY, 1 * 60));
+		assertFalse(schedule.isOpenAt(DayOfWeek.MONDAY, 21 * 60 + 59));
+		assertTrue(schedule.isOpenAt(DayOfWeek.MONDAY, 22 * 60));
+		assertTrue(schedule.isOpenAt(DayOfWeek.MONDAY, 23 * 60 + 59));
+		assertTrue(schedule.isOpenAt(DayOfWeek.TUESDAY, 0));
+		assertTrue(schedule.isOpenAt(DayOfWeek.TUESDAY, 1 * 60 + 59));
+		assertFalse(schedule.isOpenAt(DayOfWeek.TUESDAY, 2 * 60));
+	}
+
+	@Test
+	public void 일요일_밤_운영은_월요일_새벽으로_이어진다() {
+		WeeklySchedule schedule = WeeklySchedule.builder().day(DayOfWeek.SUNDAY, "2000", "0300").build();
+
+		assertTrue(schedule.isOpenAt(DayOfWeek.MONDAY, 2 * 60 + 30));
+		assertFalse(schedule.isOpenAt(DayOfWeek.MONDAY, 3 * 60));
+	}
+
+	@Test
+	public void 마감_2400은_자정_직전까지() {
+		WeeklySchedule schedule = WeeklySchedule.builder().day(DayOfWeek.FRIDAY, "0900", "2400").build();
+
+		assertTrue(schedule.isOpenAt(DayOfWeek.FRIDAY, 23 * 60 + 59));
+		assertFalse(schedule.isOpenAt(DayOfWeek.SATURDAY, 0));
+	}
+
+	@Test
+	public void 오픈과_마감이_같거나_없으면_운영하지_않음() {
+		WeeklySchedule schedule = WeeklySchedule.builder()
+				.day(DayOfWeek.MONDAY, "0900", "0900")
+				.day(DayOfWeek.TUESDAY, "0900", null)
+				.day(DayOfWeek.WEDNESDAY, "잘못된값", "1800")
+				.build();
+
+		assertFalse(schedule.isOpenAt(DayOfWeek.MONDAY, 9 * 60));
+		assertFalse(schedule.isOpenAt(DayOfWeek.TUESDAY, 10 * 60));
+		assertFalse(schedule.isOpenAt(DayOfWeek.WEDNESDAY, 10 * 60));
+		// 운영시간이 없는 날은 다음날 새벽에도 영향 없음
+		assertFalse(schedule.isOpenAt(DayOfWeek.WEDNESDAY, 0));
+	}
+
+	@Test
+	public void zeroAsClosed면_0000은_운영하지_않는_시간() {
+		WeeklySchedule hospital = WeeklySchedule.builder().zeroAsClosed()
+				.day(DayOfWeek.MONDAY, "0000", "0000")
+				.day(DayOfWeek.TUESDAY, "0000", "2400")
+				.day(DayOfWeek.WEDNESDAY, "0900", "1800")
+				.build();
+
+		assertEquals(WeeklySchedule.NONE, hospital.open(DayOfWeek.MONDAY));
+		assertEquals(WeeklySchedule.NONE, hospital.close(DayOfWeek.MONDAY));
+		assertEquals("", hospital.formattedOpen(DayOfWeek.MONDAY));
+		assertFalse(hospital.isOpenAt(DayOfWeek.MONDAY, 12 * 60));
+		assertFalse(hospital.isOpenAt(DayOfWeek.TUESDAY, 12 * 60));
+		assertTrue(hospital.isOpenAt(DayOfWeek.WEDNESDAY, 12 * 60));
+	}
+
+	@Test
+	public void zeroAsClosed가_아니면_0000은_자정() {
+		WeeklySchedule pharmacy = WeeklySchedule.builder().day(DayOfWeek.TUESDAY, "0000", "2400").build();
+
+		assertEquals(0, pharmacy.open(DayOfWeek.TUESDAY));
+		assertEquals("00:00", pharmacy.formattedOpen(DayOfWeek.TUESDAY));
+		assertTrue(pharmacy.isOpenAt(DayOfWeek.TUESDAY, 0));
+		assertTrue(pharmacy.isOpenAt(DayOfWeek.TUESDAY, 12 * 60));
+	}
+
+	@Test
+	public void 공휴일에는_공휴일_운영시간_적용() {
+		WeeklySchedule schedule = WeeklySchedule.builder()
+				.day(DayOfWeek.MONDAY, "0900", "1800")
+				.holiday("1000", "1400")
+				.build();
+
+		assertTrue(schedule.hasHoliday());
+		assertEquals(8, schedule.dayCount());
+		assertTrue(schedule.isOpenOnHolidayAt(DayOfWeek.MONDAY, 11 * 60));
+		assertFalse(schedule.isOpenOnHolidayAt(DayOfWeek.MONDAY, 15 * 60));
+	}
+
+	@Test
+	public void 공휴일_운영시간이_없으면_전날_밤_운영만_인정() {
+		WeeklySchedule schedule = WeeklySchedule.builder()
+				.day(DayOfWeek.SUNDAY, "2200", "0200")
+				.day(DayOfWeek.MONDAY, "0900", "1800")
+				.build();
+
+		assertFalse(schedule.hasHoliday());
+		assertEquals(7, schedule.dayCount());
+		assertTrue(schedule.isOpenOnHolidayAt(DayOfWeek.MONDAY, 1 * 60));
+		assertFalse(schedule.isOpenOnHolidayAt(DayOfWeek.MONDAY, 10 * 60));
+	}
+
+	@Test
+	public void 같은_운영시간이면_같은_값() {
+		WeeklySchedule a = WeeklySchedule.builder().day(DayOfWeek.MONDAY, "0900", "1800").build();
+		WeeklySchedule b = WeeklySchedule.builder().day(DayOfWeek.MONDAY, "0900", "1800").build();
+		WeeklySchedule holiday = WeeklySchedule.builder().day(DayOfWeek.MONDAY, "0900", "1800")
+				.holiday(null, null).build();
+
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertNotEquals(a, holiday);
+	}
+}
@@ -0,0 +1,150 @@
+package com.hospital.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.hospital.dto.AutocompleteSuggestion;
+import com.hospital.util.HangulUtils;
+
+public class AutocompleteIndexTest {
+
+	private static final String[] PARTS = { "서울", "서", "대", "병원", "의원", "약국", "성모", "ABC", "a", " " };
+
+	@Test
+	public void 전체_검사와_같은_결과와_순서() {
+		Random random = new Random(3);
+		List<AutocompleteSuggestion> items = randomSuggestions(random, 1_500);
+		AutocompleteIndex index = AutocompleteIndex.build(items);
+
+		List<String> prefixes = new ArrayList<>(List.of("서", "ㅅ", "ㅅㅇ", "서ㅇ", "a", "ab", "AB", "서울병", "ㅅㅇㄷ", "없는접두어"));
+		for (int i = 0; i < 300; i++) {
+			String name = NameSearchIndex.normalize(items.get(random.nextInt(items.size())).getName());
+			String key = random.nextBoolean() ? name : HangulUtils.chosung(name);
+			prefixes.add(key.substring(0, 1 + random.nextInt(key.length())));
+		}
+
+		for (String prefix : prefixes) {
+			for (int limit : new int[] { 1, 3, AutocompleteIndex.MAX_SUGGESTIONS, 100 }) {
+				assertEquals("prefix=" + prefix + ", limit=" + limit,
+						bruteForce(items, prefix, limit), index.lookup(prefix, limit));
+			}
+		}
+	}
+
+	@Test
+	public void 초성으로_검색() {
+		AutocompleteIndex index = AutocompleteIndex.build(List.of(
+				suggestion("서울대병원", 10), suggestion("서울성모병원", 20), suggestion("부산대병원", 30)));
+
+		assertEquals(List.of("서울성모병원", "서울대병원"), names(index.lookup("ㅅㅇ", 10)));
+		assertEquals(List.of("서울대병원"), names(index.lookup("ㅅㅇㄷ", 10)));
+		// 이름과 초성을 섞은 접두어는 지원하지 않음
+		assertTrue(index.lookup("서울ㄷ", 10).isEmpty());
+	}
+
+	@Test
+	public void 이름과_초성이_같은_후보는_한_번만() {
+		AutocompleteIndex index = AutocompleteIndex.build(List.of(suggestion("ABC의원", 1), suggestion("ㄱ약국", 2)));
+
+		assertEquals(List.of("ABC의원"), names(index.lookup("abc", 10)));
+		assertEquals(List.of("ㄱ약국"), names(index.lookup("ㄱ", 10)));
+	}
+
+	@Test
+	public void 빈_접두어는_결과_없음() {
+		AutocompleteIndex index = AutocompleteIndex.build(List.of(suggestion("서울병원", 1)));
+
+		assertTrue(index.lookup("", 10).isEmpty());
+		assertTrue(index.lookup("  ", 10).isEmpty());
+		assertTrue(index.lookup(null, 10).isEmpty());
+	}
+
+	@Test
+	public void limit이_0_이하면_한_개() {
+		AutocompleteIndex index = AutocompleteIndex.build(List.of(
+				suggestion("서울병원", 1), suggestion("서울의원", 2), suggestion("서울약국", 3)));
+
+		// 한 글자(미리 계산된 경로)와 긴 접두어(이진 탐색 경로) 모두
+		assertEquals(List.of("서울약국"), names(index.lookup("서", 0)));
+		assertEquals(List.of("서울약국"), names(index.lookup("서울", -5)));
+		assertEquals(List.of("서울약국"), names(index.lookup("서울약", 0)));
+	}
+
+	@Test
+	public void limit은_최대_후보_수까지만() {
+		List<AutocompleteSuggestion> items = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			items.add(suggestion("서울병원" + i, i));
+		}
+		AutocompleteIndex index = AutocompleteIndex.build(items);
+
+		assertEquals(AutocompleteIndex.MAX_SUGGESTIONS, index.lookup("서", 100).size());
+		assertEquals(AutocompleteIndex.MAX_SUGGESTIONS, index.lookup("서울병", 100).size());
+	}
+
+	@Test
+	public void 이름이_없는_후보는_제외() {
+		AutocompleteIndex index = AutocompleteIndex.build(List.of(
+				suggestion(null, 1), suggestion(" ", 2), suggestion("서울병원", 3)));
+
+		assertEquals(1, index.size());
+	}
+
+	// 이름 또는 초성이 접두어로 시작하는 후보 전체를 ORDER로 정렬
+	private static List<AutocompleteSuggestion> bruteForce(List<AutocompleteSuggestion> items, String prefix,
+			int limit) {
+		String normalized = NameSearchIndex.normalize(prefix);
+		if (normalized.isEmpty()) {
+			return List.of();
+		}
+		List<AutocompleteSuggestion> matched = new ArrayList<>();
+		for (AutocompleteSuggestion item : items) {
+			String name = NameSearchIndex.normalize(item.getName());
+			if (name.startsWith(normalized) || HangulUtils.chosung(name).startsWith(normalized)) {
+				matched.add(item);
+			}
+		}
+		matched.sort(AutocompleteIndex.ORDER);
+		int size = Math.max(1, Math.min(limit, AutocompleteIndex.MAX_SUGGESTIONS));
+		return matched.size() <= size ? matched : matched.subList(0, size);
+	}
+
+	// 정렬 기준이 겹치지 않도록 이름은 중복 없이 생성
+	private static List<AutocompleteSuggestion> randomSuggestions(Random random, int count) {
+		Set<String> names = new LinkedHashSet<>();
+		while (names.size() < count) {
+			StringBuilder sb = new StringBuilder();
+			int parts = 1 + random.nextInt(4);
+			for (int i = 0; i < parts; i++) {
+				sb.append(PARTS[random.nextInt(PARTS.length)]);
+			}
+			sb.append(names.size());
+			names.add(sb.toString());
+		}
+		List<AutocompleteSuggestion> items = new ArrayList<>();
+		for (String name : names) {
+			items.add(suggestion(name, random.nextInt(5)));
+		}
+		return items;
+	}
+
+	private static AutocompleteSuggestion suggestion(String name, int score) {
+		return new AutocompleteSuggestion("HOSPITAL", "code-" + name, name, "주소", score);
+	}
+
+	private static List<String> names(List<AutocompleteSuggestion> suggestions) {
+		List<String> names = new ArrayList<>();
+		for (AutocompleteSuggestion suggestion : suggestions) {
+			names.add(suggestion.getName());
+		}
+		return names;
+	}
+}
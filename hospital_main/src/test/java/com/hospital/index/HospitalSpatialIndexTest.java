@@ -0,0 +1,124 @@
+package com.hospital.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.junit.Test;
+
+import com.hospital.dto.HospitalWebResponse;
+import com.hospital.index.HospitalSpatialIndex.Neighbor;
+import com.hospital.util.DistanceCalculator;
+
+public class HospitalSpatialIndexTest {
+
+	private final DistanceCalculator distanceCalculator = new DistanceCalculator();
+
+	@Test
+	public void 전체_검사와_같은_최근접_결과() {
+		Random random = new Random(13);
+		List<HospitalWebResponse> hospitals = new ArrayList<>();
+		for (int i = 0; i < 3_000; i++) {
+			hospitals.add(hospital("H" + i, 37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4));
+		}
+		// 좌표 없는 병원은 인덱스에서 제외
+		hospitals.add(HospitalWebResponse.builder().hospitalCode("noCoordinate").build());
+		HospitalSpatialIndex index = HospitalSpatialIndex.build(hospitals, 1);
+		assertEquals(3_000, index.size());
+
+		for (int round = 0; round < 200; round++) {
+			double lat = 37.35 + random.nextDouble() * 0.4;
+			double lng = 126.75 + random.nextDouble() * 0.5;
+			int k = 1 + random.nextInt(30);
+			double maxRadiusKm = 0.5 + random.nextDouble() * 10;
+			IntPredicate filter = random.nextBoolean() ? null : position -> position % 3 == 0;
+
+			List<Neighbor> actual = index.nearest(distanceCalculator, lat, lng, k, maxRadiusKm, filter);
+			List<Neighbor> expected = bruteForce(index, lat, lng, k, maxRadiusKm, filter);
+			assertEquals("round=" + round, distances(expected), distances(actual));
+		}
+	}
+
+	@Test
+	public void K개를_찾으면_먼_겹은_보지_않는다() {
+		List<HospitalWebResponse> hospitals = new ArrayList<>();
+		// 중심 근처 5곳 + 5~20km 떨어진 곳에 다수
+		for (int i = 0; i < 5; i++) {
+			hospitals.add(hospital("near" + i, 37.5 + i * 0.0005, 127.0 + i * 0.0005));
+		}
+		Random random = new Random(17);
+		for (int i = 0; i < 2_000; i++) {
+			double lat = 37.5 + (random.nextBoolean() ? 1 : -1) * (0.05 + random.nextDouble() * 0.13);
+			double lng = 127.0 + (random.nextBoolean() ? 1 : -1) * (0.06 + random.nextDouble() * 0.16);
+			hospitals.add(hospital("far" + i, lat, lng));
+		}
+		HospitalSpatialIndex index = HospitalSpatialIndex.build(hospitals, 1);
+
+		AtomicInteger visited = new AtomicInteger();
+		List<Neighbor> result = index.nearest(distanceCalculator, 37.5, 127.0, 5, 30.0, position -> {
+			visited.incrementAndGet();
+			return true;
+		});
+
+		assertEquals(5, result.size());
+		for (Neighbor neighbor : result) {
+			assertTrue(index.get(neighbor.position()).getHospitalCode().startsWith("near"));
+		}
+		// 가까운 겹에서 멈추므로 먼 병원은 거의 방문하지 않음
+		assertTrue("visited=" + visited.get(), visited.get() < 50);
+	}
+
+	@Test
+	public void 반경_밖은_제외하고_K보다_적게_반환() {
+		HospitalSpatialIndex index = HospitalSpatialIndex.build(List.of(
+				hospital("A", 37.5, 127.0), hospital("B", 37.51, 127.0), hospital("C", 37.6, 127.0)), 1);
+
+		List<Neighbor> result = index.nearest(distanceCalculator, 37.5, 127.0, 10, 2.0, null);
+
+		assertEquals(2, result.size());
+		assertEquals("A", index.get(result.get(0).position()).getHospitalCode());
+		assertEquals("B", index.get(result.get(1).position()).getHospitalCode());
+	}
+
+	@Test
+	public void 빈_인덱스는_빈_결과() {
+		HospitalSpatialIndex index = HospitalSpatialIndex.build(List.of(), 1);
+
+		assertTrue(index.nearest(distanceCalculator, 37.5, 127.0, 5, 10.0, null).isEmpty());
+	}
+
+	private List<Neighbor> bruteForce(HospitalSpatialIndex index, double lat, double lng, int k, double maxRadiusKm,
+			IntPredicate filter) {
+		List<Neighbor> all = new ArrayList<>();
+		for (int i = 0; i < index.size(); i++) {
+			if (filter != null && !filter.test(i)) {
+				continue;
+			}
+			double distance = distanceCalculator.calculateDistance(lat, lng, index.latitude(i), index.longitude(i));
+			if (distance <= maxRadiusKm) {
+				all.add(new Neighbor(i, distance));
+			}
+		}
+		all.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+		return all.size() <= k ? all : all.subList(0, k);
+	}
+
+	// 같은 거리의 병원 순서는 구현마다 다를 수 있으므로 거리만 비교
+	private static List<Double> distances(List<Neighbor> neighbors) {
+		List<Double> distances = new ArrayList<>();
+		for (Neighbor neighbor : neighbors) {
+			distances.add(neighbor.distanceKm());
+		}
+		return distances;
+	}
+
+	private static HospitalWebResponse hospital(String code, double lat, double lng) {
+		return HospitalWebResponse.builder().hospitalCode(code).coordinateY(lat).coordinateX(lng).build();
+	}
+}
@@ -0,0 +1,151 @@
+package com.hospital.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class NameSearchIndexTest {
+
+	// 같은 글자가 자주 겹치도록 작은 글자 집합 사용
+	private static final String[] PARTS = { "서울", "대", "병원", "의원", "약국", "서", "울", "A", "b", " ", "온누리", "대학교" };
+
+	@Test
+	public void 전체_검사와_같은_결과와_순서() {
+		Random random = new Random(7);
+		List<String> names = randomNames(random, 2_000);
+		NameSearchIndex<String> index = NameSearchIndex.build(names, Function.identity());
+
+		for (int round = 0; round < 500; round++) {
+			String query = randomName(random);
+			assertEquals("query=" + query, bruteForce(names, query), index.search(query));
+		}
+	}
+
+	@Test
+	public void 목록에_있는_이름의_부분_문자열은_모두_찾는다() {
+		Random random = new Random(11);
+		List<String> names = randomNames(random, 500);
+		NameSearchIndex<String> index = NameSearchIndex.build(names, Function.identity());
+
+		for (String name : names) {
+			String normalized = NameSearchIndex.normalize(name);
+			if (normalized.length() < 2) {
+				continue;
+			}
+			int from = random.nextInt(normalized.length() - 1);
+			int to = from + 2 + random.nextInt(normalized.length() - from - 1);
+			String query = normalized.substring(from, to);
+			assertEquals("query=" + query, bruteForce(names, query), index.search(query));
+		}
+	}
+
+	@Test
+	public void 정확히_일치_앞부분_일치_중간_일치_순() {
+		List<String> names = List.of("강남서울병원", "서울병원본관", "서울병원", "서울 병원");
+		NameSearchIndex<String> index = NameSearchIndex.build(names, Function.identity());
+
+		// 정확히 일치(공백 무시)는 목록 순서, 앞부분 일치, 중간 일치 순
+		assertEquals(List.of("서울병원", "서울 병원", "서울병원본관", "강남서울병원"), index.search("서울병원"));
+	}
+
+	@Test
+	public void 대소문자와_공백을_무시() {
+		NameSearchIndex<String> index = NameSearchIndex.build(List.of("Seoul Clinic"), Function.identity());
+
+		assertEquals(List.of("Seoul Clinic"), index.search("ULCL"));
+		assertEquals(List.of("Seoul Clinic"), index.search("seoul clinic"));
+	}
+
+	@Test
+	public void 빈_검색어와_한_글자_검색어는_결과_없음() {
+		NameSearchIndex<String> index = NameSearchIndex.build(List.of("서울병원", "서"), Function.identity());
+
+		assertTrue(index.search("").isEmpty());
+		assertTrue(index.search("   ").isEmpty());
+		assertTrue(index.search(null).isEmpty());
+		assertTrue(index.search("서").isEmpty());
+		assertTrue(index.search(" 서 ").isEmpty());
+	}
+
+	@Test
+	public void 이름이_없거나_한_글자인_항목은_검색되지_않는다() {
+		// 빈 문자열 항목은 이름이 없는(null) 것으로 취급
+		NameSearchIndex<String> index = NameSearchIndex.build(List.of("", "서", "서울"),
+				name -> name.isEmpty() ? null : name);
+
+		assertEquals(3, index.size());
+		assertEquals(List.of("서울"), index.search("서울"));
+	}
+
+	@Test
+	public void 반복되는_bigram도_한_번만_반환() {
+		NameSearchIndex<String> index = NameSearchIndex.build(List.of("가나가나가나"), Function.identity());
+
+		assertEquals(List.of("가나가나가나"), index.search("가나가"));
+		assertEquals(List.of("가나가나가나"), index.search("나가나"));
+	}
+
+	@Test
+	public void matchScore_등급과_순서() {
+		int exact = NameSearchIndex.matchScore("서울병원", "서울병원");
+		int prefixShort = NameSearchIndex.matchScore("서울병원본관", "서울병원");
+		int prefixLong = NameSearchIndex.matchScore("서울병원본관별관", "서울병원");
+		int middleEarly = NameSearchIndex.matchScore("강서울병원", "서울병원");
+		int middleLate = NameSearchIndex.matchScore("강남서울병원", "서울병원");
+
+		assertEquals(0, NameSearchIndex.matchRank(exact));
+		assertEquals(1, NameSearchIndex.matchRank(prefixShort));
+		assertEquals(2, NameSearchIndex.matchRank(middleEarly));
+		assertTrue(exact < prefixShort);
+		assertTrue(prefixShort < prefixLong);
+		assertTrue(prefixLong < middleEarly);
+		assertTrue(middleEarly < middleLate);
+		assertEquals(NameSearchIndex.NO_MATCH, NameSearchIndex.matchScore("부산병원", "서울병원"));
+	}
+
+	// LIKE '%검색어%'와 같은 전체 검사 + search()와 같은 정렬
+	private static List<String> bruteForce(List<String> names, String query) {
+		String normalized = NameSearchIndex.normalize(query);
+		List<Integer> positions = new ArrayList<>();
+		if (normalized.length() >= 2) {
+			for (int i = 0; i < names.size(); i++) {
+				if (NameSearchIndex.normalize(names.get(i)).contains(normalized)) {
+					positions.add(i);
+				}
+			}
+		}
+		positions.sort(Comparator
+				.comparingInt((Integer i) -> NameSearchIndex.matchScore(NameSearchIndex.normalize(names.get(i)), normalized))
+				.thenComparingInt(i -> i));
+
+		List<String> result = new ArrayList<>();
+		for (int position : positions) {
+			result.add(names.get(position));
+		}
+		return result;
+	}
+
+	private static List<String> randomNames(Random random, int count) {
+		List<String> names = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			names.add(randomName(random));
+		}
+		return names;
+	}
+
+	private static String randomName(Random random) {
+		StringBuilder sb = new StringBuilder();
+		int parts = 1 + random.nextInt(4);
+		for (int i = 0; i < parts; i++) {
+			sb.append(PARTS[random.nextInt(PARTS.length)]);
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,36 @@
+package com.hospital.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HangulUtilsTest {
+
+    @Test
+    public void 완성형_한글은_초성으로_변환() {
+        assertEquals("ㅅㅇㄷㅂㅇ", HangulUtils.chosung("서울대병원"));
+    }
+
+    @Test
+    public void 음절_범위_양끝() {
+        assertEquals("ㄱ", HangulUtils.chosung("가"));
+        assertEquals("ㅎ", HangulUtils.chosung("힣"));
+    }
+
+    @Test
+    public void 쌍자음_초성() {
+        assertEquals("ㄲㄸㅃㅆㅉ", HangulUtils.chosung("까따빠싸짜"));
+    }
+
+    @Test
+    public void 한글이_아닌_글자는_그대로() {
+        assertEquals("ABC 123 ㄱㅏ", HangulUtils.chosung("ABC 123 ㄱㅏ"));
+        assertEquals("ㅇㄹabc1", HangulUtils.chosung("우리abc1"));
+    }
+
+    @Test
+    public void null과_빈_문자열() {
+        assertEquals("", HangulUtils.chosung(null));
+        assertEquals("", HangulUtils.chosung(""));
+    }
+}
@@ -0,0 +1,67 @@
+package com.hospital.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class SubjectCodeWrapperTest {
+
+    @Test
+    public void 진료과마다_겹치지_않는_비트() {
+        Map<String, Long> masks = SubjectCodeWrapper.departmentMasks();
+
+        long union = 0L;
+        int bits = 0;
+        for (Map.Entry<String, Long> entry : masks.entrySet()) {
+            long mask = entry.getValue();
+            assertNotEquals(entry.getKey(), 0L, mask);
+            assertEquals(entry.getKey(), 0L, union & mask);
+            union |= mask;
+            bits += Long.bitCount(mask);
+        }
+        // 과목코드 하나당 비트 하나 (한방응급 88/89는 같은 이름이라 한 마스크에 두 비트)
+        assertEquals(bits, Long.bitCount(union));
+        assertEquals(2, Long.bitCount(masks.get("한방응급")));
+    }
+
+    @Test
+    public void 여러_진료과는_비트를_합친다() {
+        long internal = SubjectCodeWrapper.departmentMask(List.of("내과"));
+        long pediatrics = SubjectCodeWrapper.departmentMask(List.of("소아청소년과"));
+
+        assertEquals(internal | pediatrics, SubjectCodeWrapper.departmentMask(List.of("내과", "소아청소년과")));
+        assertEquals(internal, SubjectCodeWrapper.departmentMask(List.of("내과", "내과")));
+    }
+
+    @Test
+    public void 알_수_없는_이름과_null은_0() {
+        assertEquals(0L, SubjectCodeWrapper.departmentMask(null));
+        assertEquals(0L, SubjectCodeWrapper.departmentMask(List.of()));
+        assertEquals(0L, SubjectCodeWrapper.departmentMask(List.of("없는과")));
+        assertEquals(SubjectCodeWrapper.departmentMask(List.of("안과")),
+                SubjectCodeWrapper.departmentMask(Arrays.asList("없는과", "안과", null)));
+    }
+
+    @Test
+    public void 모두_알려진_이름일_때만_마스크_사용_가능() {
+        assertTrue(SubjectCodeWrapper.isMaskable(List.of("내과", "치과", "한방응급")));
+        assertTrue(SubjectCodeWrapper.isMaskable(List.of()));
+        assertFalse(SubjectCodeWrapper.isMaskable(List.of("내과", "없는과")));
+    }
+
+    @Test
+    public void 과목코드를_진료과명으로() {
+        SubjectCodeWrapper wrapper = new SubjectCodeWrapper();
+
+        assertEquals("내과", wrapper.getDepartmentName("01"));
+        assertEquals("한방응급", wrapper.getDepartmentName("89"));
+        assertEquals("알 수 없는 과목", wrapper.getDepartmentName("99"));
+    }
+}
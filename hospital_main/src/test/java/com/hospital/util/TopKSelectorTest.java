@@ -0,0 +1,90 @@
+package com.hospital.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TopKSelectorTest {
+
+	@Test
+	public void 전체_정렬의_앞부분과_같다() {
+		Random random = new Random(42);
+		for (int round = 0; round < 200; round++) {
+			int k = 1 + random.nextInt(20);
+			int count = random.nextInt(100);
+			List<Integer> values = new ArrayList<>();
+			TopKSelector<Integer> selector = new TopKSelector<>(k, Comparator.naturalOrder());
+			for (int i = 0; i < count; i++) {
+				int value = random.nextInt(50); // 중복 값 포함
+				values.add(value);
+				selector.offer(value);
+			}
+
+			values.sort(Comparator.naturalOrder());
+			List<Integer> expected = values.subList(0, Math.min(k, values.size()));
+			assertEquals(expected, selector.toSortedList());
+			assertEquals(expected.size(), selector.size());
+			assertEquals(count >= k, selector.isFull());
+			if (!expected.isEmpty()) {
+				assertEquals(expected.get(expected.size() - 1), selector.worst());
+			}
+		}
+	}
+
+	@Test
+	public void 후보가_K개보다_적으면_전부_반환() {
+		TopKSelector<Integer> selector = new TopKSelector<>(5, Comparator.naturalOrder());
+		selector.offer(3);
+		selector.offer(1);
+
+		assertFalse(selector.isFull());
+		assertEquals(List.of(1, 3), selector.toSortedList());
+	}
+
+	@Test
+	public void 비어있으면_worst는_null() {
+		TopKSelector<Integer> selector = new TopKSelector<>(3, Comparator.naturalOrder());
+
+		assertNull(selector.worst());
+		assertTrue(selector.toSortedList().isEmpty());
+	}
+
+	@Test
+	public void offer는_상위_K개_포함_여부를_반환() {
+		TopKSelector<Integer> selector = new TopKSelector<>(2, Comparator.naturalOrder());
+
+		assertTrue(selector.offer(5));
+		assertTrue(selector.offer(7));
+		assertFalse(selector.offer(9));
+		assertFalse(selector.offer(7)); // 같은 값은 교체하지 않음
+		assertTrue(selector.offer(1));
+		assertEquals(List.of(1, 5), selector.toSortedList());
+	}
+
+	@Test
+	public void 큰_K도_미리_할당하지_않는다() {
+		TopKSelector<Integer> selector = new TopKSelector<>(Integer.MAX_VALUE, Comparator.naturalOrder());
+		selector.offer(2);
+		selector.offer(1);
+
+		assertEquals(List.of(1, 2), selector.toSortedList());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void K가_0이면_예외() {
+		new TopKSelector<Integer>(0, Comparator.naturalOrder());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void K가_음수면_예외() {
+		new TopKSelector<Integer>(-1, Comparator.naturalOrder());
+	}
+}
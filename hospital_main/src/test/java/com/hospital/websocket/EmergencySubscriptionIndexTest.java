@@ -0,0 +1,173 @@
+package com.hospital.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.hospital.dto.EmergencyWebResponse;
+
+public class EmergencySubscriptionIndexTest {
+
+    // region.properties의 전국 시도 코드/약칭
+    private static final List<String> SIDO_CODES = List.of("110000", "210000", "220000", "230000", "240000",
+            "250000", "260000", "310000", "320000", "330000", "340000", "350000", "360000", "370000", "380000",
+            "390000", "410000");
+    private static final List<String> SIDO_NAMES = List.of("서울", "부산", "인천", "대구", "광주", "대전", "울산", "경기",
+            "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주", "세종");
+
+    private static final String[] ADDRESS_PREFIXES = { "서울특별시", "부산광역시", "경기도", "충청북도", "충청남도", "경상남도",
+            "전라남도", "전북특별자치도", "강원특별자치도", "세종특별자치시", "제주특별자치도", "", "알수없음" };
+
+    private final EmergencySubscriptionIndex index = new EmergencySubscriptionIndex(SIDO_CODES, SIDO_NAMES);
+
+    @Test
+    public void 주소의_시도_코드() {
+        assertEquals("110000", index.sidoCodeOf("서울특별시 종로구 대학로 101"));
+        assertEquals("310000", index.sidoCodeOf("경기도 성남시"));
+        assertEquals("330000", index.sidoCodeOf("충청북도 청주시"));
+        assertEquals("340000", index.sidoCodeOf("충청남도 천안시"));
+        assertEquals("370000", index.sidoCodeOf("경상북도 포항시"));
+        assertEquals("380000", index.sidoCodeOf("경상남도 창원시"));
+        assertEquals("360000", index.sidoCodeOf("전라남도 목포시"));
+        assertEquals("350000", index.sidoCodeOf("전북특별자치도 전주시"));
+        assertEquals("320000", index.sidoCodeOf("강원특별자치도 춘천시"));
+        assertEquals("410000", index.sidoCodeOf("세종특별자치시 한누리대로"));
+        assertEquals("240000", index.sidoCodeOf("  광주광역시 북구"));
+    }
+
+    @Test
+    public void 알_수_없는_주소는_null() {
+        assertNull(index.sidoCodeOf(null));
+        assertNull(index.sidoCodeOf(""));
+        assertNull(index.sidoCodeOf("   "));
+        assertNull(index.sidoCodeOf("Seoul"));
+        assertNull(index.sidoCodeOf("종로구 대학로"));
+    }
+
+    @Test
+    public void 구독이_없으면_빈_결과() {
+        assertTrue(index.match(List.of(hospital("A", 37.5, 127.0, "서울특별시"))).isEmpty());
+    }
+
+    @Test
+    public void 사각형_경계에_걸친_병원도_포함() {
+        EmergencySubscription subscription = new EmergencySubscription(
+                new EmergencySubscription.Bbox(37.25, 126.75, 37.5, 127.0), null, null);
+        index.subscribe(sender(), subscription);
+
+        EmergencyWebResponse corner = hospital("corner", 37.25, 126.75, null);
+        EmergencyWebResponse opposite = hospital("opposite", 37.5, 127.0, null);
+        EmergencyWebResponse inside = hospital("inside", 37.3, 126.9, null);
+        // 같은 격자 칸(0.25도)이지만 사각형 밖
+        EmergencyWebResponse sameCellOutside = hospital("sameCellOutside", 37.5, 127.1, null);
+        EmergencyWebResponse justBelow = hospital("justBelow", 37.2499, 126.9, null);
+        EmergencyWebResponse noCoordinate = hospital("noCoordinate", null, null, null);
+
+        Map<EmergencySubscription, List<EmergencyWebResponse>> matched = index.match(
+                List.of(corner, sameCellOutside, opposite, justBelow, inside, noCoordinate));
+
+        assertEquals(List.of(corner, opposite, inside), matched.get(subscription));
+    }
+
+    @Test
+    public void 같은_조건의_세션은_하나의_구독() {
+        EmergencySubscription first = new EmergencySubscription(null, "110000", null);
+        EmergencySubscription same = new EmergencySubscription(null, "110000", null);
+        index.subscribe(sender(), first);
+        index.subscribe(sender(), same);
+
+        assertEquals(1, index.subscriptionCount());
+        assertEquals(2, index.sendersOf(first).size());
+    }
+
+    @Test
+    public void 해제한_구독은_결과에서_빠진다() {
+        EmergencySessionSender sender = sender();
+        EmergencySubscription subscription = new EmergencySubscription(null, null, Set.of("A"));
+        index.subscribe(sender, subscription);
+        index.unsubscribe(sender);
+
+        assertEquals(0, index.subscriptionCount());
+        assertTrue(index.match(List.of(hospital("A", 37.5, 127.0, "서울특별시"))).isEmpty());
+    }
+
+    @Test
+    public void 전체_검사와_같은_결과() {
+        Random random = new Random(5);
+        List<EmergencySubscription> subscriptions = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            EmergencySubscription subscription = randomSubscription(random);
+            subscriptions.add(subscription);
+            index.subscribe(sender(), subscription);
+        }
+        // 두 세션이 같은 구독을 쓰다 하나만 해제
+        EmergencySessionSender leaving = sender();
+        index.subscribe(leaving, subscriptions.get(0));
+        index.unsubscribe(leaving);
+
+        List<EmergencyWebResponse> hospitals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            hospitals.add(randomHospital(random, i));
+        }
+
+        Map<EmergencySubscription, List<EmergencyWebResponse>> matched = index.match(hospitals);
+        assertEquals(index.subscriptionCount(), matched.size());
+        for (EmergencySubscription subscription : subscriptions) {
+            List<EmergencyWebResponse> expected = new ArrayList<>();
+            for (EmergencyWebResponse hospital : hospitals) {
+                if (subscription.matches(hospital, index.sidoCodeOf(hospital.getEmergencyAddress()))) {
+                    expected.add(hospital);
+                }
+            }
+            assertEquals(expected, matched.get(subscription));
+            assertEquals(expected, index.filter(subscription, hospitals));
+        }
+    }
+
+    private static EmergencySubscription randomSubscription(Random random) {
+        EmergencySubscription.Bbox bbox = null;
+        if (random.nextBoolean()) {
+            // 격자 경계(0.25도)에 맞춘 값과 임의 값을 섞음
+            double minLat = 34 + (random.nextBoolean() ? random.nextInt(16) * 0.25 : random.nextDouble() * 4);
+            double minLng = 126 + (random.nextBoolean() ? random.nextInt(12) * 0.25 : random.nextDouble() * 3);
+            bbox = new EmergencySubscription.Bbox(minLat, minLng,
+                    minLat + random.nextDouble() * 1.5, minLng + random.nextDouble() * 1.5);
+        }
+        String sidoCode = random.nextInt(3) == 0 ? SIDO_CODES.get(random.nextInt(SIDO_CODES.size())) : null;
+        Set<String> hpids = random.nextInt(3) == 0 ? Set.of("H" + random.nextInt(500), "H" + random.nextInt(500)) : null;
+        return new EmergencySubscription(bbox, sidoCode, hpids);
+    }
+
+    private static EmergencyWebResponse randomHospital(Random random, int i) {
+        Double lat = null;
+        Double lng = null;
+        if (random.nextInt(10) != 0) {
+            lat = 34 + (random.nextBoolean() ? random.nextInt(20) * 0.25 : random.nextDouble() * 5);
+            lng = 126 + (random.nextBoolean() ? random.nextInt(16) * 0.25 : random.nextDouble() * 4);
+        }
+        String address = ADDRESS_PREFIXES[random.nextInt(ADDRESS_PREFIXES.length)] + " 어딘가로 " + i;
+        return hospital("H" + i, lat, lng, address);
+    }
+
+    // coordinateY = 위도, coordinateX = 경도
+    private static EmergencyWebResponse hospital(String hpid, Double lat, Double lng, String address) {
+        return EmergencyWebResponse.builder()
+                .hpid(hpid)
+                .coordinateY(lat)
+                .coordinateX(lng)
+                .emergencyAddress(address)
+                .build();
+    }
+
+    private static EmergencySessionSender sender() {
+        return new EmergencySessionSender(null, false, 1);
+    }
+}